@@ -0,0 +1,123 @@
+package com.admission.benchmark;
+
+import com.admission.dto.ApplicationRequestDTO;
+import com.admission.dto.ApplicationResponseDTO;
+import com.admission.dto.ApplicationResultDTO;
+import com.admission.dto.ApplicationSort;
+import com.admission.dto.ApplicationStatusUpdateDTO;
+import com.admission.dto.CursorPageDTO;
+import com.admission.dto.ResultLookupRequestDTO;
+import com.admission.dto.SelectionResultDTO;
+import com.admission.entity.Application.ApplicationStatus;
+import com.admission.service.ApplicationService;
+import com.admission.service.SelectionService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service hot paths against an in-memory H2 database seeded with {@code datasetSize} applications
+ * The 1M dataset needs a few GB of heap; select sizes with -p datasetSize=10000
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ApplicationServiceBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int datasetSize;
+
+    private BenchmarkDataSet dataSet;
+    private ApplicationService applicationService;
+    private SelectionService selectionService;
+    private final AtomicLong submissions = new AtomicLong();
+    private final AtomicLong statusUpdates = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSet = BenchmarkDataSet.start(datasetSize);
+        applicationService = dataSet.bean(ApplicationService.class);
+        selectionService = dataSet.bean(SelectionService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSet.close();
+    }
+
+    @Benchmark
+    public ApplicationResponseDTO submitApplication() {
+        long n = submissions.incrementAndGet();
+        return applicationService.submitApplication(ApplicationRequestDTO.builder()
+                .applicantName("Benchmark Applicant " + n)
+                .email("benchmark" + n + "-" + datasetSize + "@example.com")
+                .phoneNumber("9876543210")
+                .address(n + " Benchmark Road")
+                .additionalInformation("Submitted by the benchmark")
+                .courseId(1 + n % BenchmarkDataSet.COURSES)
+                .build());
+    }
+
+    @Benchmark
+    public ApplicationResponseDTO updateApplicationStatus() {
+        // Walks the seeded PENDING applications, rejecting them on even passes and reopening them on odd ones,
+        // so every call is a valid transition and no Student rows are created
+        long n = statusUpdates.getAndIncrement();
+        long pending = datasetSize / 10 * 7;
+        long k = n % pending;
+        boolean reject = (n / pending) % 2 == 0;
+        long id = 1 + k / 7 * 10 + k % 7;
+        return applicationService.updateApplicationStatus(id, ApplicationStatusUpdateDTO.builder()
+                .status(reject ? ApplicationStatus.REJECTED : ApplicationStatus.PENDING)
+                .rejectionReason(reject ? "Benchmark rejection" : null)
+                .build());
+    }
+
+    @Benchmark
+    public SelectionResultDTO rankPendingApplications() {
+        // Dry run, so every call ranks the same pending applications
+        return selectionService.runSelection(null, 100, true);
+    }
+
+    @Benchmark
+    public CursorPageDTO<ApplicationResponseDTO> listApplicationsFirstPage() {
+        return applicationService.getApplications(ApplicationSort.ID, null, null, null, 100);
+    }
+
+    @Benchmark
+    public CursorPageDTO<ApplicationResponseDTO> listPendingApplicationsFirstPage() {
+        return applicationService.getPendingApplications(null, null, 100);
+    }
+
+    @Benchmark
+    public CursorPageDTO<ApplicationResponseDTO> searchApplicationsByName() {
+        return applicationService.searchApplications("applicant " + (submissions.incrementAndGet() * 7919 % datasetSize),
+                null, null, null, 20);
+    }
+
+    @Benchmark
+    public CursorPageDTO<ApplicationResponseDTO> searchApplicationsByPrefix() {
+        // Matches about a thousand applicants (applicant42, applicant420..., applicant42000...)
+        return applicationService.searchApplications("applicant42", ApplicationStatus.PENDING, null, null, 20);
+    }
+
+    @Benchmark
+    public ApplicationResultDTO lookupApplicationResult() {
+        // Seeded ids start at 1 and emails follow them, so every lookup finds its application
+        long i = ThreadLocalRandom.current().nextLong(datasetSize);
+        return applicationService.lookupResult(ResultLookupRequestDTO.builder()
+                .applicationId(i + 1)
+                .email("applicant" + i + "@example.com")
+                .build());
+    }
+
+    @Benchmark
+    public ApplicationService.ApplicationStatisticsDTO applicationStatistics() {
+        return applicationService.getApplicationStatistics();
+    }
+}
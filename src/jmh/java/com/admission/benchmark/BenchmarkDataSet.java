@@ -0,0 +1,123 @@
+package com.admission.benchmark;
+
+import com.admission.AdmissionManagementApplication;
+import com.admission.entity.Application.ApplicationStatus;
+import com.admission.service.ApplicationResultSnapshot;
+import com.admission.service.ApplicationSearchIndex;
+import com.admission.service.ApplicationStatisticsService;
+import com.admission.service.EmailBloomFilter;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Boots the application without a web server against a private in-memory H2 database
+ * and seeds it with a realistic mix of courses and applications
+ */
+final class BenchmarkDataSet implements AutoCloseable {
+
+    static final int COURSES = 20;
+
+    private static final int BATCH_SIZE = 5000;
+
+    private final ConfigurableApplicationContext context;
+
+    private BenchmarkDataSet(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Start a fresh context and seed {@code applications} rows: 70% pending, 20% selected, 10% rejected
+     */
+    static BenchmarkDataSet start(int applications) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(AdmissionManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                // Keeps the dev profile's SQL tracing out of the measurements
+                .profiles("prod")
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.admission=WARN",
+                        "logging.level.org.springframework.web=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "spring.h2.console.enabled=false",
+                        // Keep the outbox relay from competing with the measured code
+                        "app.notification.poll-interval-ms=3600000")
+                .run();
+        BenchmarkDataSet dataSet = new BenchmarkDataSet(context);
+        dataSet.seed(applications);
+        return dataSet;
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    private void seed(int applications) {
+        JdbcTemplate jdbcTemplate = bean(JdbcTemplate.class);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> courses = new ArrayList<>(COURSES);
+        for (int i = 1; i <= COURSES; i++) {
+            courses.add(new Object[]{"Course " + i, "Description of course " + i, 3 + i % 6,
+                    i % 3 == 0 ? "Advanced" : i % 3 == 1 ? "Beginner" : "Intermediate", true, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO courses (course_name, description, duration, level, active, " +
+                "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)", courses);
+        List<Long> courseIds = jdbcTemplate.queryForList("SELECT id FROM courses ORDER BY id", Long.class);
+
+        LocalDateTime start = LocalDateTime.now().minusDays(60);
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < applications; i++) {
+            int bucket = i % 10;
+            ApplicationStatus status = bucket < 7 ? ApplicationStatus.PENDING
+                    : bucket < 9 ? ApplicationStatus.SELECTED : ApplicationStatus.REJECTED;
+            Timestamp createdAt = Timestamp.valueOf(start.plusSeconds(i * 5L));
+            Timestamp changedAt = status == ApplicationStatus.PENDING ? null
+                    : Timestamp.valueOf(start.plusSeconds(i * 5L + 86400));
+            rows.add(new Object[]{
+                    "Applicant " + i, "applicant" + i + "@example.com", String.format("98%08d", i % 100000000),
+                    i + " Main Street, Springfield", "Prior experience with programming project " + i,
+                    status.name(), status == ApplicationStatus.REJECTED ? "Does not meet prerequisites" : null,
+                    courseIds.get(i % courseIds.size()), createdAt, createdAt, changedAt
+            });
+            if (rows.size() == BATCH_SIZE) {
+                insertApplications(jdbcTemplate, rows);
+                rows.clear();
+            }
+        }
+        if (!rows.isEmpty()) {
+            insertApplications(jdbcTemplate, rows);
+        }
+        // The rows bypassed the service, so move the application id generator past them and bring the
+        // statistics counters, the email filter, the search index and the result snapshot in line with them
+        jdbcTemplate.update("UPDATE id_generators SET next_val = (SELECT MAX(id) FROM applications) + 51 " +
+                "WHERE name = 'applications'");
+        bean(ApplicationStatisticsService.class).reconcile();
+        bean(EmailBloomFilter.class).rebuild();
+        bean(ApplicationSearchIndex.class).rebuild();
+        bean(ApplicationResultSnapshot.class).rebuild();
+    }
+
+    private void insertApplications(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("INSERT INTO applications (applicant_name, email, phone_number, address, " +
+                "additional_information, status, rejection_reason, course_id, created_at, updated_at, " +
+                "status_changed_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
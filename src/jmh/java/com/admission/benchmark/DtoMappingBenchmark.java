@@ -0,0 +1,88 @@
+package com.admission.benchmark;
+
+import com.admission.dto.ApplicationResponseDTO;
+import com.admission.entity.Application;
+import com.admission.entity.Application.ApplicationStatus;
+import com.admission.entity.Course;
+import com.admission.mapper.ApplicationMapper;
+import com.admission.mapper.CourseMapper;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the hand-written ApplicationMapper against the reflective ModelMapper path it replaced
+ * for the list endpoints, where every application carries a nested course
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    @Param({"100", "1000"})
+    private int applications;
+
+    @Param({"20"})
+    private int courses;
+
+    private List<Application> page;
+    private ModelMapper modelMapper;
+    private ApplicationMapper applicationMapper;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        applicationMapper = new ApplicationMapper(new CourseMapper());
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Course> catalogue = new ArrayList<>(courses);
+        for (long i = 1; i <= courses; i++) {
+            catalogue.add(Course.builder()
+                    .id(i)
+                    .courseName("Course " + i)
+                    .description("Description of course " + i)
+                    .duration(3)
+                    .level("Beginner")
+                    .active(true)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+
+        page = new ArrayList<>(applications);
+        for (long i = 1; i <= applications; i++) {
+            page.add(Application.builder()
+                    .id(i)
+                    .applicantName("Applicant " + i)
+                    .email("applicant" + i + "@example.com")
+                    .phoneNumber("9876543210")
+                    .address(i + " Main Street")
+                    .additionalInformation("Additional information for applicant " + i)
+                    .status(ApplicationStatus.PENDING)
+                    .course(catalogue.get((int) (i % courses)))
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<ApplicationResponseDTO> modelMapper() {
+        return page.stream()
+                .map(app -> modelMapper.map(app, ApplicationResponseDTO.class))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<ApplicationResponseDTO> applicationMapper() {
+        return applicationMapper.toResponseList(page);
+    }
+}
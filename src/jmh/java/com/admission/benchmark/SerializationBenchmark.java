@@ -0,0 +1,75 @@
+package com.admission.benchmark;
+
+import com.admission.dto.ApplicationResponseDTO;
+import com.admission.dto.CourseDTO;
+import com.admission.entity.Application.ApplicationStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of ApplicationResponseDTO lists, configured the way the web layer configures it
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"100", "1000"})
+    private int applications;
+
+    private ObjectMapper objectMapper;
+    private List<ApplicationResponseDTO> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<CourseDTO> courses = new ArrayList<>(BenchmarkDataSet.COURSES);
+        for (long i = 1; i <= BenchmarkDataSet.COURSES; i++) {
+            courses.add(CourseDTO.builder()
+                    .id(i)
+                    .courseName("Course " + i)
+                    .description("Description of course " + i)
+                    .duration(3)
+                    .level("Beginner")
+                    .active(true)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+
+        page = new ArrayList<>(applications);
+        for (long i = 1; i <= applications; i++) {
+            page.add(ApplicationResponseDTO.builder()
+                    .id(i)
+                    .applicantName("Applicant " + i)
+                    .email("applicant" + i + "@example.com")
+                    .phoneNumber("9876543210")
+                    .address(i + " Main Street, Springfield")
+                    .additionalInformation("Prior experience with programming project " + i)
+                    .status(ApplicationStatus.PENDING)
+                    .course(courses.get((int) (i % courses.size())))
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeApplicationList() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
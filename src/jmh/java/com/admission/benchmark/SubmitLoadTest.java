@@ -0,0 +1,117 @@
+package com.admission.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop load test for POST /api/applications/submit against a running instance
+ * Run it once against the default configuration and once against the virtual-threads profile to compare them
+ * Usage: SubmitLoadTest [base-url] [concurrency] [requests]   (defaults: http://localhost:8080 200 20000)
+ */
+public final class SubmitLoadTest {
+
+    private SubmitLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int requests = args.length > 2 ? Integer.parseInt(args[2]) : 20000;
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(8))
+                .build();
+        long courseId = createCourse(client, baseUrl);
+        String run = UUID.randomUUID().toString().substring(0, 8);
+
+        // Warm up the server before measuring
+        execute(client, baseUrl, courseId, "warmup-" + run, concurrency, Math.min(requests / 10, 2000));
+
+        long[] latencies = new long[requests];
+        AtomicInteger errors = new AtomicInteger();
+        long start = System.nanoTime();
+        execute(client, baseUrl, courseId, run, concurrency, requests, latencies, errors);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Arrays.sort(latencies);
+        System.out.printf("requests=%d concurrency=%d errors=%d%n", requests, concurrency, errors.get());
+        System.out.printf("throughput=%.1f req/s%n", requests / seconds);
+        System.out.printf("latency p50=%.2f ms p90=%.2f ms p99=%.2f ms max=%.2f ms%n",
+                percentile(latencies, 50), percentile(latencies, 90), percentile(latencies, 99),
+                latencies[latencies.length - 1] / 1e6);
+    }
+
+    private static void execute(HttpClient client, String baseUrl, long courseId, String run,
+                                int concurrency, int requests) throws InterruptedException {
+        execute(client, baseUrl, courseId, run, concurrency, requests, new long[requests], new AtomicInteger());
+    }
+
+    private static void execute(HttpClient client, String baseUrl, long courseId, String run, int concurrency,
+                                int requests, long[] latencies, AtomicInteger errors) throws InterruptedException {
+        AtomicLong next = new AtomicLong();
+        ExecutorService users = Executors.newFixedThreadPool(concurrency);
+        for (int u = 0; u < concurrency; u++) {
+            users.execute(() -> {
+                long n;
+                while ((n = next.getAndIncrement()) < requests) {
+                    String body = "{\"applicantName\":\"Load Test " + n + "\",\"email\":\"load-" + run + "-" + n +
+                            "@example.com\",\"phoneNumber\":\"9876543210\",\"address\":\"" + n +
+                            " Load Street\",\"courseId\":" + courseId + "}";
+                    long sent = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(post(baseUrl + "/api/applications/submit", body),
+                                HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 201) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (IOException e) {
+                        errors.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    latencies[(int) n] = System.nanoTime() - sent;
+                }
+            });
+        }
+        users.shutdown();
+        users.awaitTermination(1, TimeUnit.HOURS);
+    }
+
+    private static long createCourse(HttpClient client, String baseUrl) throws IOException, InterruptedException {
+        String body = "{\"courseName\":\"Load Test " + UUID.randomUUID() + "\",\"description\":\"Load test\"," +
+                "\"duration\":3,\"level\":\"Beginner\",\"active\":true}";
+        HttpResponse<String> response = client.send(post(baseUrl + "/api/courses", body),
+                HttpResponse.BodyHandlers.ofString());
+        JsonNode course = new ObjectMapper().readTree(response.body());
+        return course.path("id").asLong();
+    }
+
+    private static HttpRequest post(String url, String body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+}
@@ -0,0 +1,57 @@
+package com.admission.cli;
+
+import com.admission.dto.ImportErrorDTO;
+import com.admission.dto.ImportResultDTO;
+import com.admission.service.ApplicationImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Command-line import of an application file, after which the process exits
+ * Usage: java -jar app.jar --spring.main.web-application-type=none --app.import.file=applications.csv
+ * Files ending in .csv are read as CSV with a header row, anything else as NDJSON.
+ * The exit status is 0 when every record was imported and 1 otherwise.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty("app.import.file")
+public class ApplicationImportRunner implements ApplicationRunner {
+
+    private final ApplicationImportService applicationImportService;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${app.import.file}")
+    private Path file;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        ImportResultDTO result;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            result = file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".csv")
+                    ? applicationImportService.importCsv(in)
+                    : applicationImportService.importNdjson(in);
+        }
+        for (ImportErrorDTO error : result.getErrors()) {
+            log.warn("Record {} ({}): {}", error.getRecord(), error.getEmail(), error.getError());
+        }
+        log.info("Imported {} of {} record(s) from {}, {} failed",
+                result.getImported(), result.getTotal(), file, result.getFailed());
+
+        int status = result.getFailed() == 0 ? 0 : 1;
+        System.exit(SpringApplication.exit(context, () -> status));
+    }
+}
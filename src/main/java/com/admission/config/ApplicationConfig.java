@@ -1,21 +1,16 @@
 package com.admission.config;
 
-import org.modelmapper.ModelMapper;
-import org.springframework.context.annotation.Bean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Application Configuration class
  * Defines Spring beans for the application
  */
 @Configuration
+@EnableScheduling
+@EnableConfigurationProperties({NotificationProperties.class, SelectionProperties.class, EventStreamProperties.class,
+        ThrottlingProperties.class})
 public class ApplicationConfig {
-
-    /**
-     * ModelMapper bean for DTO conversion
-     */
-    @Bean
-    public ModelMapper modelMapper() {
-        return new ModelMapper();
-    }
 }
@@ -0,0 +1,85 @@
+package com.admission.config;
+
+import com.admission.datasource.ReplicaLagMonitor;
+import com.admission.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DataSource Configuration class
+ * With replicas configured, the application DataSource routes read-only transactions to them and everything
+ * else to the primary; without, Spring Boot's single auto-configured pool is used unchanged
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "urls")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class DataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    Pools dataSourcePools(DataSourceProperties properties, ReplicaProperties replicaProperties,
+                          Environment environment, MeterRegistry meterRegistry) {
+        HikariDataSource primary = pool("primary", properties.getUrl(), properties.determineUsername(),
+                properties.determinePassword(), properties, environment, meterRegistry);
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : replicaProperties.getUrls()) {
+            HikariDataSource replica = pool("replica-" + replicas.size(), url,
+                    replicaProperties.getUsername() != null ? replicaProperties.getUsername() : properties.determineUsername(),
+                    replicaProperties.getPassword() != null ? replicaProperties.getPassword() : properties.determinePassword(),
+                    properties, environment, meterRegistry);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new Pools(primary, replicas);
+    }
+
+    @Bean
+    ReplicaLagMonitor replicaLagMonitor(Pools pools, ReplicaProperties replicaProperties) {
+        return new ReplicaLagMonitor(pools.primary(), pools.replicas(), replicaProperties.getMaxLagMs());
+    }
+
+    @Bean
+    DataSource dataSource(Pools pools, ReplicaLagMonitor replicaLagMonitor) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(pools.primary(), pools.replicas(), replicaLagMonitor));
+    }
+
+    /**
+     * A Hikari pool with the spring.datasource.hikari.* settings the auto-configured pool would have had
+     */
+    private static HikariDataSource pool(String name, String url, String username, String password,
+                                         DataSourceProperties properties, Environment environment,
+                                         MeterRegistry meterRegistry) {
+        HikariDataSource pool = new HikariDataSource();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        pool.setJdbcUrl(url);
+        pool.setUsername(username);
+        pool.setPassword(password);
+        pool.setDriverClassName(properties.determineDriverClassName());
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+
+    record Pools(HikariDataSource primary, List<HikariDataSource> replicas) implements AutoCloseable {
+
+        @Override
+        public void close() {
+            replicas.forEach(HikariDataSource::close);
+            primary.close();
+        }
+    }
+}
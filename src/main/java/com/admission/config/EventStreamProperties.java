@@ -0,0 +1,54 @@
+package com.admission.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Tuning for the application event stream
+ * Bound from the app.events.* properties
+ */
+@Data
+@ConfigurationProperties(prefix = "app.events")
+public class EventStreamProperties {
+
+    /**
+     * Recent events kept for subscribers resuming with Last-Event-ID
+     */
+    private int replayBufferSize = 10000;
+
+    /**
+     * Events waiting to be sent to one subscriber; beyond this the oldest are dropped and the subscriber is told to reload
+     */
+    private int subscriberBufferSize = 256;
+
+    /**
+     * Maximum concurrent subscribers on this instance
+     */
+    private int maxSubscribers = 5000;
+
+    /**
+     * Threads writing to subscribers; a subscriber only holds one while it has events to send
+     */
+    private int senders = 64;
+
+    /**
+     * Subscribers waiting for a sender thread; one that finds the queue full is disconnected
+     */
+    private int senderQueueSize = 5000;
+
+    /**
+     * A subscriber whose write has not completed after this long is disconnected, so a slow client cannot
+     * hold events, a sender thread and a subscriber slot indefinitely
+     */
+    private long sendTimeoutMs = 10000;
+
+    /**
+     * Idle connections receive a comment this often, which also detects clients that went away
+     */
+    private long heartbeatIntervalMs = 15000;
+
+    /**
+     * A stream is closed after this long; browsers reconnect and resume from the last event
+     */
+    private long timeoutMs = 1800000;
+}
@@ -0,0 +1,60 @@
+package com.admission.config;
+
+import com.admission.metrics.QueryMetricsDataSource;
+import com.admission.service.CourseCatalogCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Metrics Configuration class
+ * Instruments the DataSource (statement timing and the slow-query log) and publishes cache statistics;
+ * endpoint and @Timed service timers come from Spring Boot's actuator auto-configuration
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    static BeanPostProcessor queryMetricsDataSourcePostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${app.slow-query.threshold-ms:500}") long slowThresholdMs,
+            @Value("${app.slow-query.sample-rate:1.0}") double slowSampleRate) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof QueryMetricsDataSource)) {
+                    return new QueryMetricsDataSource(dataSource, meterRegistry.getObject(), slowThresholdMs,
+                            slowSampleRate);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder courseCatalogCacheMetrics(CourseCatalogCache courseCatalogCache) {
+        return registry -> {
+            FunctionCounter.builder("admission.course.cache.requests", courseCatalogCache,
+                            cache -> cache.getStats().getHits())
+                    .description("Course catalogue cache lookups")
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("admission.course.cache.requests", courseCatalogCache,
+                            cache -> cache.getStats().getMisses())
+                    .description("Course catalogue cache lookups")
+                    .tag("result", "miss")
+                    .register(registry);
+            Gauge.builder("admission.course.cache.size", courseCatalogCache, cache -> cache.getStats().getSize())
+                    .description("Courses held in the catalogue cache")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,52 @@
+package com.admission.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Tuning for the notification outbox relay and email dispatch pipeline
+ * Bound from the app.notification.* properties
+ */
+@Data
+@ConfigurationProperties(prefix = "app.notification")
+public class NotificationProperties {
+
+    /**
+     * Maximum number of notifications waiting to be sent
+     */
+    private int queueCapacity = 10000;
+
+    /**
+     * Number of worker threads draining the queue
+     */
+    private int workers = 2;
+
+    /**
+     * Maximum messages sent over one SMTP connection
+     */
+    private int batchSize = 50;
+
+    /**
+     * Delivery attempts before an outbox message is marked dead
+     */
+    private int maxAttempts = 5;
+
+    private long initialBackoffMs = 1000;
+
+    private long maxBackoffMs = 60000;
+
+    /**
+     * How often the relay polls the outbox for messages ready to send
+     */
+    private long pollIntervalMs = 500;
+
+    /**
+     * Claimed messages not acknowledged within this time are released for redelivery
+     */
+    private long claimTimeoutMs = 300000;
+
+    /**
+     * How long sent messages are kept in the outbox before being purged
+     */
+    private long retentionHours = 72;
+}
@@ -0,0 +1,38 @@
+package com.admission.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas that read-only transactions are routed to
+ * Bound from the app.datasource.replica.* properties; routing is off while no URL is configured
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReplicaProperties {
+
+    /**
+     * JDBC URLs of the replicas
+     */
+    private List<String> urls = new ArrayList<>();
+
+    /**
+     * Credentials for the replicas; the primary's are used when unset
+     */
+    private String username;
+
+    private String password;
+
+    /**
+     * How often the heartbeat is written to the primary and read back from the replicas
+     */
+    private long heartbeatIntervalMs = 1000;
+
+    /**
+     * Replicas whose last replayed heartbeat is older than this are skipped
+     */
+    private long maxLagMs = 5000;
+}
@@ -0,0 +1,26 @@
+package com.admission.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tuning for the automated selection engine
+ * Bound from the app.selection.* properties
+ */
+@Data
+@ConfigurationProperties(prefix = "app.selection")
+public class SelectionProperties {
+
+    /**
+     * Number of courses ranked at the same time; each one holds a database connection while it is read
+     */
+    private int parallelism = 4;
+
+    /**
+     * Weight of each scoring rule by name; rules without an entry weigh 1.0 and a weight of 0 disables a rule
+     */
+    private Map<String, Double> weights = new HashMap<>();
+}
@@ -0,0 +1,91 @@
+package com.admission.config;
+
+import com.admission.throttling.EndpointClass;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Rate and concurrency limits applied in front of the API
+ * Bound from the app.throttling.* properties
+ */
+@Data
+@ConfigurationProperties(prefix = "app.throttling")
+public class ThrottlingProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Header identifying the client, such as X-Forwarded-For behind a proxy; without it clients are told apart
+     * by their remote address
+     */
+    private String clientKeyHeader;
+
+    /**
+     * Proxies in front of the application that each append the address they received from to the client key
+     * header. The client is the entry this many places from the right: entries further left are whatever the
+     * client sent and cannot be trusted.
+     */
+    private int trustedProxies = 1;
+
+    /**
+     * Clients with their own token bucket; further clients share one bucket until idle ones are dropped
+     */
+    private int maxTrackedClients = 100000;
+
+    /**
+     * Retry-After sent with 503 when an endpoint class is at its concurrency limit
+     */
+    private long retryAfterSeconds = 1;
+
+    /**
+     * Token bucket per client for the endpoint classes listed; others are not rate limited
+     */
+    private Map<EndpointClass, RateLimit> rateLimits = new EnumMap<>(Map.of(
+            EndpointClass.SUBMIT, new RateLimit(5, 0.2),
+            EndpointClass.RESULT_LOOKUP, new RateLimit(20, 2)));
+
+    /**
+     * Adaptive concurrency limit per endpoint class; classes not listed use the defaults
+     * Streams hold their slot for the whole transfer, so their limit is fixed rather than following latency
+     */
+    private Map<EndpointClass, ConcurrencyLimit> concurrencyLimits = new EnumMap<>(Map.of(
+            EndpointClass.STREAM, new ConcurrencyLimit(8, 8, 8, 2.0)));
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RateLimit {
+
+        /**
+         * Requests a client can make in a burst
+         */
+        private int capacity;
+
+        /**
+         * Sustained requests per second
+         */
+        private double refillPerSecond;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ConcurrencyLimit {
+
+        private int initialLimit = 20;
+
+        private int minLimit = 2;
+
+        private int maxLimit = 200;
+
+        /**
+         * How much slower than its long-term latency an endpoint class may get before its limit shrinks
+         */
+        private double latencyTolerance = 2.0;
+    }
+}
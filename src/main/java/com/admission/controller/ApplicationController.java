@@ -1,25 +1,73 @@
 package com.admission.controller;
 
 import com.admission.dto.ApplicationRequestDTO;
+import com.admission.dto.ApplicationResultDTO;
+import com.admission.dto.BulkStatusUpdateItemDTO;
+import com.admission.dto.BulkStatusUpdateResultDTO;
+import com.admission.dto.CourseStatisticsDTO;
+import com.admission.dto.CursorPageDTO;
+import com.admission.dto.ImportResultDTO;
+import com.admission.dto.ResultLookupRequestDTO;
+import com.admission.dto.SelectionResultDTO;
+import com.admission.dto.StudentDTO;
+import com.admission.entity.Application.ApplicationStatus;
 import com.admission.dto.ApplicationResponseDTO;
+import com.admission.dto.ApplicationSort;
 import com.admission.dto.ApplicationStatusUpdateDTO;
-import com.admission.entity.Student;
+import com.admission.service.ApplicationEventBroadcaster;
+import com.admission.service.ApplicationImportService;
+import com.admission.service.ApplicationResultSnapshot;
+import com.admission.service.ApplicationSearchIndex;
 import com.admission.service.ApplicationService;
+import com.admission.service.BulkStatusUpdateService;
+import com.admission.service.ChangeVersionService;
+import com.admission.service.ChangeVersionService.Versioned;
+import com.admission.service.SelectionService;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
+import static com.admission.service.ChangeVersionService.Table.APPLICATIONS;
+import static com.admission.service.ChangeVersionService.Table.COURSES;
+
 
 @RestController
 @RequestMapping("/api/applications")
 @RequiredArgsConstructor
-@CrossOrigin(origins = "*", maxAge = 3600)
+@CrossOrigin(origins = "*", maxAge = 3600,
+        exposedHeaders = {ApplicationController.NEXT_CURSOR_HEADER, ApplicationController.TOTAL_COUNT_HEADER, HttpHeaders.ETAG})
 public class ApplicationController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+
+    // Staff views: browsers may keep a copy but must revalidate it, which is a cheap 304 while nothing changed
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final ApplicationService applicationService;
+    private final BulkStatusUpdateService bulkStatusUpdateService;
+    private final ApplicationImportService applicationImportService;
+    private final SelectionService selectionService;
+    private final ApplicationSearchIndex applicationSearchIndex;
+    private final ApplicationResultSnapshot applicationResultSnapshot;
+    private final ChangeVersionService changeVersionService;
+    private final ApplicationEventBroadcaster applicationEventBroadcaster;
+    private final ObjectMapper objectMapper;
 
     
     @PostMapping("/submit")
@@ -30,8 +78,70 @@ public class ApplicationController {
 
    
     @GetMapping
-    public ResponseEntity<List<ApplicationResponseDTO>> getAllApplications() {
-        return ResponseEntity.ok(applicationService.getAllApplications());
+    public ResponseEntity<List<ApplicationResponseDTO>> getAllApplications(
+            @RequestParam(defaultValue = "ID") ApplicationSort sort,
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(required = false) Long courseId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        return page(changeVersionService.readIfModified(request::checkNotModified,
+                () -> applicationService.getApplications(sort, status, courseId, cursor, size), APPLICATIONS, COURSES));
+    }
+
+    
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllApplications(
+            @RequestParam(defaultValue = "ID") ApplicationSort sort,
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(required = false) Long courseId) {
+        return stream(sort, status, courseId);
+    }
+
+    
+    @GetMapping("/search")
+    public ResponseEntity<List<ApplicationResponseDTO>> searchApplications(
+            @RequestParam String q,
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(required = false) Long courseId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return page(applicationService.searchApplications(q, status, courseId, cursor, size));
+    }
+
+    
+    @PostMapping("/result")
+    public ResponseEntity<ApplicationResultDTO> lookupResult(@RequestBody ResultLookupRequestDTO request) {
+        // Personal data: never kept by shared caches or the browser
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(applicationService.lookupResult(request));
+    }
+
+    
+    @PostMapping("/result/rebuild")
+    public ResponseEntity<Void> rebuildResultSnapshot() {
+        applicationResultSnapshot.rebuild();
+        return ResponseEntity.noContent().build();
+    }
+
+    
+    @PostMapping("/search/rebuild")
+    public ResponseEntity<Void> rebuildSearchIndex() {
+        applicationSearchIndex.rebuild();
+        return ResponseEntity.noContent().build();
+    }
+
+   
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(
+            @RequestParam(required = false) Long courseId,
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) String lastEventIdHeader,
+            @RequestParam(required = false) String lastEventId) {
+        // Browsers resend the header when they reconnect; the parameter lets a new connection resume too
+        return applicationEventBroadcaster.subscribe(courseId, status,
+                lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
     }
 
    
@@ -42,39 +152,153 @@ public class ApplicationController {
 
    
     @GetMapping("/status/pending")
-    public ResponseEntity<List<ApplicationResponseDTO>> getPendingApplications() {
-        return ResponseEntity.ok(applicationService.getPendingApplications());
+    public ResponseEntity<List<ApplicationResponseDTO>> getPendingApplications(
+            @RequestParam(required = false) Long courseId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        return page(changeVersionService.readIfModified(request::checkNotModified,
+                () -> applicationService.getPendingApplications(courseId, cursor, size), APPLICATIONS, COURSES));
+    }
+
+    
+    @GetMapping("/status/pending/stream")
+    public ResponseEntity<StreamingResponseBody> streamPendingApplications(@RequestParam(required = false) Long courseId) {
+        return stream(ApplicationSort.CREATED_AT, ApplicationStatus.PENDING, courseId);
     }
 
     
     @GetMapping("/status/selected")
-    public ResponseEntity<List<ApplicationResponseDTO>> getSelectedApplications() {
-        return ResponseEntity.ok(applicationService.getSelectedApplications());
+    public ResponseEntity<List<ApplicationResponseDTO>> getSelectedApplications(
+            @RequestParam(required = false) Long courseId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        return page(changeVersionService.readIfModified(request::checkNotModified,
+                () -> applicationService.getSelectedApplications(courseId, cursor, size), APPLICATIONS, COURSES));
+    }
+
+    
+    @GetMapping("/status/selected/stream")
+    public ResponseEntity<StreamingResponseBody> streamSelectedApplications(@RequestParam(required = false) Long courseId) {
+        return stream(ApplicationSort.STATUS_CHANGED_AT, ApplicationStatus.SELECTED, courseId);
     }
 
     
     @PutMapping("/{id}/status")
     public ResponseEntity<ApplicationResponseDTO> updateApplicationStatus(
             @PathVariable Long id,
-            @RequestBody ApplicationStatusUpdateDTO updateDTO) {
-        return ResponseEntity.ok(applicationService.updateApplicationStatus(id, updateDTO));
+            @RequestBody ApplicationStatusUpdateDTO updateDTO,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        return ResponseEntity.ok(applicationService.updateApplicationStatus(id, updateDTO, idempotencyKey));
+    }
+
+    
+    @PutMapping(value = "/status/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<BulkStatusUpdateResultDTO>> bulkUpdateApplicationStatus(
+            @RequestBody List<BulkStatusUpdateItemDTO> items) {
+        return ResponseEntity.ok(bulkStatusUpdateService.updateStatuses(items.iterator()));
+    }
+
+    
+    @PutMapping(value = "/status/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<List<BulkStatusUpdateResultDTO>> bulkUpdateApplicationStatusStream(InputStream body)
+            throws IOException {
+        // Items are parsed one line at a time as the service consumes them
+        try (MappingIterator<BulkStatusUpdateItemDTO> items =
+                     objectMapper.readerFor(BulkStatusUpdateItemDTO.class).readValues(body)) {
+            return ResponseEntity.ok(bulkStatusUpdateService.updateStatuses(items));
+        }
+    }
+
+    
+    @PostMapping("/selection")
+    public ResponseEntity<SelectionResultDTO> runSelection(
+            @RequestParam(required = false) Long courseId,
+            @RequestParam(required = false) Integer maxPerCourse,
+            @RequestParam(defaultValue = "false") boolean dryRun) {
+        return ResponseEntity.ok(selectionService.runSelection(courseId, maxPerCourse, dryRun));
+    }
+
+    
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<ImportResultDTO> importApplicationsCsv(InputStream body) throws IOException {
+        return ResponseEntity.ok(applicationImportService.importCsv(body));
+    }
+
+    
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ImportResultDTO> importApplicationsNdjson(InputStream body) throws IOException {
+        return ResponseEntity.ok(applicationImportService.importNdjson(body));
     }
 
    
     @GetMapping("/students/all")
-    public ResponseEntity<List<Student>> getAllSelectedStudents() {
-        return ResponseEntity.ok(applicationService.getAllSelectedStudents());
+    public ResponseEntity<List<StudentDTO>> getAllSelectedStudents(WebRequest request) {
+        return versioned(changeVersionService.readIfModified(request::checkNotModified,
+                applicationService::getAllSelectedStudents, APPLICATIONS, COURSES));
     }
 
     
     @GetMapping("/students/course/{courseId}")
-    public ResponseEntity<List<Student>> getStudentsByCourse(@PathVariable Long courseId) {
-        return ResponseEntity.ok(applicationService.getStudentsByCourse(courseId));
+    public ResponseEntity<List<StudentDTO>> getStudentsByCourse(@PathVariable Long courseId, WebRequest request) {
+        return versioned(changeVersionService.readIfModified(request::checkNotModified,
+                () -> applicationService.getStudentsByCourse(courseId), APPLICATIONS, COURSES));
     }
 
     
     @GetMapping("/statistics")
-    public ResponseEntity<ApplicationService.ApplicationStatisticsDTO> getStatistics() {
-        return ResponseEntity.ok(applicationService.getApplicationStatistics());
+    public ResponseEntity<ApplicationService.ApplicationStatisticsDTO> getStatistics(WebRequest request) {
+        return versioned(changeVersionService.readIfModified(request::checkNotModified,
+                applicationService::getApplicationStatistics, APPLICATIONS));
+    }
+    
+    
+    @GetMapping("/statistics/courses")
+    public ResponseEntity<List<CourseStatisticsDTO>> getCourseStatistics(WebRequest request) {
+        return versioned(changeVersionService.readIfModified(request::checkNotModified,
+                applicationService::getCourseStatistics, APPLICATIONS, COURSES));
+    }
+
+    /**
+     * Return the page items as the body, with the cursor for the next page in a header
+     */
+    private ResponseEntity<List<ApplicationResponseDTO>> page(CursorPageDTO<ApplicationResponseDTO> page) {
+        return page(ResponseEntity.ok(), page);
+    }
+
+    /**
+     * Return a versioned page with its ETag, or nothing when the client's copy is current
+     * The request has then already been answered with 304 Not Modified
+     */
+    private ResponseEntity<List<ApplicationResponseDTO>> page(Versioned<CursorPageDTO<ApplicationResponseDTO>> page) {
+        if (page == null) {
+            return null;
+        }
+        return page(ResponseEntity.ok().eTag(page.etag()).cacheControl(REVALIDATE), page.body());
+    }
+
+    private ResponseEntity<List<ApplicationResponseDTO>> page(ResponseEntity.BodyBuilder response,
+                                                              CursorPageDTO<ApplicationResponseDTO> page) {
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        if (page.getTotal() != null) {
+            response.header(TOTAL_COUNT_HEADER, String.valueOf(page.getTotal()));
+        }
+        return response.body(page.getItems());
+    }
+
+    private <T> ResponseEntity<T> versioned(Versioned<T> versioned) {
+        if (versioned == null) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(versioned.etag()).cacheControl(REVALIDATE).body(versioned.body());
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(ApplicationSort sort, ApplicationStatus status, Long courseId) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> applicationService.streamApplications(sort, status, courseId, out));
     }
 }
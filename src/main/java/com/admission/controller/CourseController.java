@@ -1,34 +1,61 @@
 package com.admission.controller;
 
+import com.admission.dto.CacheStatsDTO;
 import com.admission.dto.CourseDTO;
+import com.admission.service.ChangeVersionService.Versioned;
 import com.admission.service.CourseService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.List;
 @RestController
 @RequestMapping("/api/courses")
 @RequiredArgsConstructor
-@CrossOrigin(origins = "*", maxAge = 3600)
+@CrossOrigin(origins = "*", maxAge = 3600, exposedHeaders = HttpHeaders.ETAG)
 public class CourseController {
 
+    // Seat counts change with every selection: may be kept but must be revalidated
+    private static final CacheControl REVALIDATE = CacheControl.noCache();
+    // The admin listing includes inactive courses, so only the browser may keep it
+    private static final CacheControl ADMIN = CacheControl.noCache().cachePrivate();
+
     private final CourseService courseService;
+
+    @Value("${app.http-cache.catalogue-max-age-seconds:30}")
+    private long catalogueMaxAgeSeconds;
+
+    // Public catalogue: shared caches may serve it for a short while before revalidating
+    private CacheControl catalogue;
+
+    @PostConstruct
+    void init() {
+        catalogue = CacheControl.maxAge(Duration.ofSeconds(catalogueMaxAgeSeconds)).cachePublic();
+    }
+
     @GetMapping("/active")
-    public ResponseEntity<List<CourseDTO>> getAllActiveCourses() {
-        return ResponseEntity.ok(courseService.getAllActiveCourses());
+    public ResponseEntity<List<CourseDTO>> getAllActiveCourses(WebRequest request) {
+        return versioned(courseService.readCatalogueIfModified(request::checkNotModified,
+                courseService::getAllActiveCourses), catalogue);
     }
 
     @GetMapping
-    public ResponseEntity<List<CourseDTO>> getAllCourses() {
-        return ResponseEntity.ok(courseService.getAllCourses());
+    public ResponseEntity<List<CourseDTO>> getAllCourses(WebRequest request) {
+        return versioned(courseService.readCatalogueIfModified(request::checkNotModified,
+                courseService::getAllCourses), ADMIN);
     }
 
    
     @GetMapping("/{id}")
-    public ResponseEntity<CourseDTO> getCourseById(@PathVariable Long id) {
-        return ResponseEntity.ok(courseService.getCourseById(id));
+    public ResponseEntity<CourseDTO> getCourseById(@PathVariable Long id, WebRequest request) {
+        return versioned(courseService.getCourseByIdIfModified(id, request::checkNotModified), REVALIDATE);
     }
 
     
@@ -52,7 +79,24 @@ public class CourseController {
 
    
     @GetMapping("/level/{level}")
-    public ResponseEntity<List<CourseDTO>> getCoursesByLevel(@PathVariable String level) {
-        return ResponseEntity.ok(courseService.getCoursesByLevel(level));
+    public ResponseEntity<List<CourseDTO>> getCoursesByLevel(@PathVariable String level, WebRequest request) {
+        return versioned(courseService.readCatalogueIfModified(request::checkNotModified,
+                () -> courseService.getCoursesByLevel(level)), catalogue);
+    }
+
+    
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStatsDTO> getCacheStats() {
+        return ResponseEntity.ok(courseService.getCacheStats());
+    }
+
+    /**
+     * Return the body with its ETag, or nothing when the request was already answered with 304 Not Modified
+     */
+    private static <T> ResponseEntity<T> versioned(Versioned<T> versioned, CacheControl cacheControl) {
+        if (versioned == null) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(versioned.etag()).cacheControl(cacheControl).body(versioned.body());
     }
 }
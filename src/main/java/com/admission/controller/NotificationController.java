@@ -0,0 +1,31 @@
+package com.admission.controller;
+
+import com.admission.dto.DeadLetterDTO;
+import com.admission.service.NotificationOutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class NotificationController {
+
+    private final NotificationOutboxService notificationOutboxService;
+
+    
+    @GetMapping("/dead-letters")
+    public ResponseEntity<List<DeadLetterDTO>> getDeadLetters() {
+        return ResponseEntity.ok(notificationOutboxService.getDeadLetters());
+    }
+
+    
+    @PostMapping("/dead-letters/redrive")
+    public ResponseEntity<Integer> redriveDeadLetters() {
+        return ResponseEntity.ok(notificationOutboxService.redriveDeadLetters());
+    }
+}
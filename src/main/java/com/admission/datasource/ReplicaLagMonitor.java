@@ -0,0 +1,117 @@
+package com.admission.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Tracks how far each replica has caught up with the primary
+ * A heartbeat timestamp is written to the primary and read back from every replica; a replica is used
+ * for reads while its last replayed heartbeat is recent and newer than the last recorded write, so a
+ * status change is read back from the primary until the replicas have it (read-your-writes).
+ * Heartbeats carry this instance's clock, so instances sharing the database need synchronised clocks.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements MeterBinder {
+
+    private static final long UNKNOWN = -1;
+
+    private final JdbcTemplate primary;
+    private final List<JdbcTemplate> replicas;
+    private final long maxLagMs;
+    // Heartbeat last read from each replica, UNKNOWN while it cannot be read
+    private final AtomicLongArray replicatedUpTo;
+    private final AtomicLong lastWriteAt = new AtomicLong();
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaLagMonitor(DataSource primary, List<? extends DataSource> replicas, long maxLagMs) {
+        this.primary = new JdbcTemplate(primary);
+        this.replicas = replicas.stream().map(JdbcTemplate::new).toList();
+        this.maxLagMs = maxLagMs;
+        this.replicatedUpTo = new AtomicLongArray(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            replicatedUpTo.set(i, UNKNOWN);
+        }
+    }
+
+    /**
+     * A replica that can serve reads, taken in turn, or -1 when the primary has to
+     */
+    public int pickReplica() {
+        long now = System.currentTimeMillis();
+        long writtenAt = lastWriteAt.get();
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            int replica = (start + i) % replicas.size();
+            long beat = replicatedUpTo.get(replica);
+            if (beat != UNKNOWN && beat > writtenAt && now - beat <= maxLagMs) {
+                return replica;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Send reads to the primary from the commit of the current transaction until the replicas have it
+     */
+    public void recordWriteAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            lastWriteAt.accumulateAndGet(System.currentTimeMillis(), Math::max);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lastWriteAt.accumulateAndGet(System.currentTimeMillis(), Math::max);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.heartbeat-interval-ms:1000}")
+    public void heartbeat() {
+        try {
+            primary.update("UPDATE replica_heartbeat SET beat_millis = ? WHERE id = 1", System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            log.warn("Could not write the replica heartbeat: {}", e.getMessage());
+        }
+        for (int i = 0; i < replicas.size(); i++) {
+            try {
+                Long beat = replicas.get(i).queryForObject("SELECT beat_millis FROM replica_heartbeat WHERE id = 1",
+                        Long.class);
+                replicatedUpTo.set(i, beat == null ? UNKNOWN : beat);
+            } catch (RuntimeException e) {
+                if (replicatedUpTo.getAndSet(i, UNKNOWN) != UNKNOWN) {
+                    log.warn("Replica {} is unavailable, reading from the primary: {}", i, e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (int i = 0; i < replicas.size(); i++) {
+            int replica = i;
+            Gauge.builder("admission.db.replica.lag", this, monitor -> monitor.lagMillis(replica))
+                    .description("Age of the last heartbeat replayed by the replica")
+                    .baseUnit("milliseconds")
+                    .tag("replica", String.valueOf(replica))
+                    .register(registry);
+        }
+    }
+
+    private double lagMillis(int replica) {
+        long beat = replicatedUpTo.get(replica);
+        return beat == UNKNOWN ? Double.NaN : System.currentTimeMillis() - beat;
+    }
+}
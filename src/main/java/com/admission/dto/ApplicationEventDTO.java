@@ -0,0 +1,37 @@
+package com.admission.dto;
+
+import com.admission.entity.Application.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * An application submission or status change, as pushed to event stream subscribers
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class ApplicationEventDTO {
+
+    public enum Type {
+        SUBMITTED, STATUS_CHANGED
+    }
+
+    private String id;
+
+    private Type type;
+
+    private Long applicationId;
+
+    private Long courseId;
+
+    private ApplicationStatus status;
+
+    private ApplicationStatus previousStatus;
+
+    private LocalDateTime occurredAt;
+}
@@ -7,7 +7,9 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 
 import java.time.LocalDateTime;
 
@@ -30,10 +32,12 @@ public class ApplicationRequestDTO {
     private String phoneNumber;
 
     @NotBlank(message = "Address is required")
+    @Size(max = 500, message = "Address must be at most 500 characters")
     private String address;
 
+    @Size(max = 1000, message = "Additional information must be at most 1000 characters")
     private String additionalInformation;
 
-    @NotBlank(message = "Course ID is required")
+    @NotNull(message = "Course ID is required")
     private Long courseId;
 }
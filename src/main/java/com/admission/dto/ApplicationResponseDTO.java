@@ -37,4 +37,6 @@ public class ApplicationResponseDTO {
     private LocalDateTime updatedAt;
 
     private LocalDateTime statusChangedAt;
+
+    private Long version;
 }
@@ -0,0 +1,29 @@
+package com.admission.dto;
+
+import com.admission.entity.Application.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApplicationResultDTO {
+
+    private Long applicationId;
+
+    private ApplicationStatus status;
+
+    private Long courseId;
+
+    private String courseName;
+
+    private String rejectionReason;
+
+    private LocalDateTime statusChangedAt;
+}
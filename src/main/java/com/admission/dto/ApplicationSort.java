@@ -0,0 +1,10 @@
+package com.admission.dto;
+
+/**
+ * Keyset orderings supported by the application listing endpoints
+ */
+public enum ApplicationSort {
+    ID,
+    CREATED_AT,
+    STATUS_CHANGED_AT
+}
@@ -5,7 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 
 
 @Data
@@ -14,7 +14,7 @@ import jakarta.validation.constraints.NotBlank;
 @Builder
 public class ApplicationStatusUpdateDTO {
 
-    @NotBlank(message = "Status is required")
+    @NotNull(message = "Status is required")
     private ApplicationStatus status;
 
     private String rejectionReason; 
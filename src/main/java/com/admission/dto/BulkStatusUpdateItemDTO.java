@@ -0,0 +1,21 @@
+package com.admission.dto;
+
+import com.admission.entity.Application.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkStatusUpdateItemDTO {
+
+    private Long applicationId;
+
+    private ApplicationStatus status;
+
+    private String rejectionReason;
+}
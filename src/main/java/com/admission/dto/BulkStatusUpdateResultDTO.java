@@ -0,0 +1,23 @@
+package com.admission.dto;
+
+import com.admission.entity.Application.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkStatusUpdateResultDTO {
+
+    private Long applicationId;
+
+    private boolean success;
+
+    private ApplicationStatus status;
+
+    private String error;
+}
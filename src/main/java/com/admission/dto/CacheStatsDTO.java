@@ -0,0 +1,25 @@
+package com.admission.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheStatsDTO {
+    private long hits;
+
+    private long misses;
+
+    private double hitRate;
+
+    private int size;
+
+    private LocalDateTime loadedAt;
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.PositiveOrZero;
 
 import java.time.LocalDateTime;
 import java.util.Set;
@@ -13,7 +14,7 @@ import java.util.Set;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class CourseDTO {
     private Long id;
 
@@ -30,6 +31,13 @@ public class CourseDTO {
 
     private Boolean active;
 
+    // Null means unlimited
+    @PositiveOrZero(message = "Capacity cannot be negative")
+    private Integer capacity;
+
+    // Only filled in for single-course responses; catalogue listings leave it null
+    private Integer seatsRemaining;
+
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
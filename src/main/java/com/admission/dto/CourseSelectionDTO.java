@@ -0,0 +1,27 @@
+package com.admission.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CourseSelectionDTO {
+    private Long courseId;
+
+    private String courseName;
+
+    private Integer seats;
+
+    private long evaluated;
+
+    private String skipped;
+
+    private List<SelectionDecisionDTO> decisions;
+}
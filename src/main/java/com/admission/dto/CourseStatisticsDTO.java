@@ -0,0 +1,25 @@
+package com.admission.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CourseStatisticsDTO {
+    private Long courseId;
+
+    private String courseName;
+
+    private Long totalApplications;
+
+    private Long pendingApplications;
+
+    private Long selectedApplications;
+
+    private Long rejectedApplications;
+}
@@ -0,0 +1,27 @@
+package com.admission.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageDTO<T> {
+    private List<T> items;
+
+    /**
+     * Opaque position of the last item, or null when there are no more items
+     */
+    private String nextCursor;
+
+    /**
+     * Number of matching items across all pages, when it is known
+     */
+    private Long total;
+}
@@ -0,0 +1,25 @@
+package com.admission.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeadLetterDTO {
+    private Long id;
+
+    private EmailNotificationDTO notification;
+
+    private int attempts;
+
+    private String reason;
+
+    private LocalDateTime failedAt;
+}
@@ -0,0 +1,25 @@
+package com.admission.dto;
+
+/**
+ * File formats supported by the export endpoints
+ */
+public enum ExportFormat {
+    CSV("text/csv", "csv"),
+    COLUMNAR("application/octet-stream", "admcol");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
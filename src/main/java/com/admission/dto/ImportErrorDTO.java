@@ -0,0 +1,20 @@
+package com.admission.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportErrorDTO {
+    // 1-based position of the record in the file, not counting a CSV header
+    private long record;
+
+    private String email;
+
+    private String error;
+}
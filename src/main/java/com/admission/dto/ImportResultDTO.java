@@ -0,0 +1,23 @@
+package com.admission.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportResultDTO {
+    private long total;
+
+    private long imported;
+
+    private long failed;
+
+    private List<ImportErrorDTO> errors;
+}
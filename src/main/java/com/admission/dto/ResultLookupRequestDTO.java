@@ -0,0 +1,18 @@
+package com.admission.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResultLookupRequestDTO {
+
+    private Long applicationId;
+
+    private String email;
+}
@@ -0,0 +1,23 @@
+package com.admission.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SelectionDecisionDTO {
+    private Long applicationId;
+
+    private int rank;
+
+    private double score;
+
+    private Boolean selected;
+
+    private String error;
+}
@@ -0,0 +1,27 @@
+package com.admission.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SelectionResultDTO {
+    private boolean dryRun;
+
+    private long evaluated;
+
+    private long proposed;
+
+    private long selected;
+
+    private long failed;
+
+    private List<CourseSelectionDTO> courses;
+}
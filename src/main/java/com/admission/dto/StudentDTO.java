@@ -0,0 +1,35 @@
+package com.admission.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentDTO {
+    private Long id;
+
+    private String studentName;
+
+    private String email;
+
+    private String phoneNumber;
+
+    private String address;
+
+    private CourseDTO course;
+
+    private Long applicationId;
+
+    private String enrollmentStatus;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+}
@@ -7,18 +7,26 @@ import jakarta.validation.constraints.Pattern;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 
 @Entity
-@Table(name = "applications")
+@Table(name = "applications", indexes = {
+        @Index(name = "idx_applications_status_created", columnList = "status, created_at, id"),
+        @Index(name = "idx_applications_status_changed", columnList = "status, status_changed_at, id"),
+        @Index(name = "idx_applications_course_status", columnList = "course_id, status, created_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Application {
 
+    // Ids are handed out in blocks from id_generators, so Hibernate can batch application inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "application_id")
+    @TableGenerator(name = "application_id", table = "id_generators", pkColumnName = "name",
+            valueColumnName = "next_val", pkColumnValue = "applications", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Applicant name cannot be blank")
@@ -42,14 +50,16 @@ public class Application {
     private String additionalInformation;
 
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @Column(nullable = false, length = 20)
     private ApplicationStatus status = ApplicationStatus.PENDING;
 
     @Column(length = 500)
     private String rejectionReason;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "course_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Course course;
 
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -61,6 +71,10 @@ public class Application {
     @Column(name = "status_changed_at")
     private LocalDateTime statusChangedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
@@ -72,9 +86,29 @@ public class Application {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * The form an email is stored and compared in: trimmed and lower-cased, so addresses differing only in case
+     * are the same applicant
+     */
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Review states; SELECTED is final because selection creates the Student record,
+     * while a rejection can be reopened for review
+     */
     public enum ApplicationStatus {
         PENDING,
         SELECTED,
-        REJECTED
+        REJECTED;
+
+        public boolean canTransitionTo(ApplicationStatus target) {
+            return switch (this) {
+                case PENDING -> target == SELECTED || target == REJECTED;
+                case REJECTED -> target == PENDING;
+                case SELECTED -> false;
+            };
+        }
     }
 }
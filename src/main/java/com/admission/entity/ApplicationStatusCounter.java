@@ -0,0 +1,37 @@
+package com.admission.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+
+/**
+ * One stripe of the application count for a course and status
+ * A (course, status) pair is spread over several slots so concurrent writers rarely wait on the same row;
+ * the count is the sum over its slots
+ */
+@Entity
+@Table(name = "application_status_counters", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_status_counter_slot", columnNames = {"course_id", "status", "slot"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApplicationStatusCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "course_id", nullable = false)
+    private Long courseId;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(nullable = false)
+    private Integer slot;
+
+    @Column(name = "application_count", nullable = false)
+    private Long applicationCount;
+}
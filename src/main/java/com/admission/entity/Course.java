@@ -5,7 +5,6 @@ import jakarta.validation.constraints.NotBlank;
 import lombok.*;
 
 import java.time.LocalDateTime;
-import java.util.Set;
 
 
 @Entity
@@ -36,15 +35,18 @@ public class Course {
     @Column(nullable = false)
     private Boolean active = true;
 
+    private Integer capacity; // Maximum number of selected applicants; null means unlimited
+
+    // Maintained by CourseSeatService with conditional updates, never written through the entity
+    @Column(name = "seats_taken", nullable = false, insertable = false, updatable = false)
+    private Integer seatsTaken;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
-    @OneToMany(mappedBy = "course", cascade = CascadeType.ALL)
-    private Set<Application> applications;
-
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
@@ -8,7 +8,10 @@ import java.time.LocalDateTime;
 
 
 @Entity
-@Table(name = "students")
+@Table(name = "students", indexes = {
+        @Index(name = "idx_students_course", columnList = "course_id"),
+        @Index(name = "idx_students_enrollment_status", columnList = "enrollment_status")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -32,14 +35,16 @@ public class Student {
     @Column(nullable = false)
     private String address;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "course_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Course course;
 
-    @Column(name = "application_id")
+    @Column(name = "application_id", unique = true)
     private Long applicationId;
 
-    @Column(nullable = false)
+    @Column(nullable = false, length = 20)
     private String enrollmentStatus = "ACTIVE";
 
     @Column(name = "created_at", nullable = false, updatable = false)
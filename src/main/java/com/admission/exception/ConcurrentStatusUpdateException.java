@@ -0,0 +1,15 @@
+package com.admission.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a status update keeps losing to concurrent updates of the same application; answered with 409 Conflict
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ConcurrentStatusUpdateException extends RuntimeException {
+
+    public ConcurrentStatusUpdateException(Long applicationId, Throwable cause) {
+        super("Application " + applicationId + " is being updated concurrently; retry the request", cause);
+    }
+}
@@ -0,0 +1,15 @@
+package com.admission.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when an application is selected for a course with no seats left; answered with 409 Conflict
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class CourseFullException extends RuntimeException {
+
+    public CourseFullException(Long courseId) {
+        super("No seats left in course with id: " + courseId);
+    }
+}
@@ -0,0 +1,15 @@
+package com.admission.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a course that still has applications is deleted; answered with 409 Conflict
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class CourseInUseException extends RuntimeException {
+
+    public CourseInUseException(Long courseId) {
+        super("Course with id " + courseId + " has applications and cannot be deleted");
+    }
+}
@@ -0,0 +1,15 @@
+package com.admission.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when an application is submitted with an email that already has one; answered with 409 Conflict
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class DuplicateEmailException extends RuntimeException {
+
+    public DuplicateEmailException(String email) {
+        super("Email already registered with an application: " + email);
+    }
+}
@@ -0,0 +1,16 @@
+package com.admission.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when an idempotency key is claimed by a concurrent request; the caller re-reads it and replays the
+ * stored response. Answered with 409 Conflict if it ever reaches a client
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class IdempotencyKeyInUseException extends RuntimeException {
+
+    public IdempotencyKeyInUseException(String key, Throwable cause) {
+        super("Idempotency key is being used by a concurrent request: " + key, cause);
+    }
+}
@@ -0,0 +1,16 @@
+package com.admission.exception;
+
+import com.admission.entity.Application.ApplicationStatus;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a status change is not allowed from the application's current status; answered with 409 Conflict
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class InvalidStatusTransitionException extends RuntimeException {
+
+    public InvalidStatusTransitionException(Long applicationId, ApplicationStatus from, ApplicationStatus to) {
+        super("Application " + applicationId + " cannot move from " + from + " to " + to);
+    }
+}
@@ -0,0 +1,16 @@
+package com.admission.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when no application matches a result lookup; answered with 404 Not Found
+ * The same answer covers an unknown id and a wrong email, so lookups cannot probe which ids exist
+ */
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class ResultNotFoundException extends RuntimeException {
+
+    public ResultNotFoundException() {
+        super("No application found with this id and email");
+    }
+}
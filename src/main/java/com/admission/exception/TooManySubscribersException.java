@@ -0,0 +1,15 @@
+package com.admission.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when the event stream already has its maximum number of subscribers; answered with 503 Service Unavailable
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class TooManySubscribersException extends RuntimeException {
+
+    public TooManySubscribersException(int maxSubscribers) {
+        super("The event stream already has its maximum of " + maxSubscribers + " subscribers");
+    }
+}
@@ -0,0 +1,70 @@
+package com.admission.mapper;
+
+import com.admission.dto.ApplicationResponseDTO;
+import com.admission.dto.CourseDTO;
+import com.admission.entity.Application;
+import com.admission.entity.Course;
+import lombok.RequiredArgsConstructor;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hand-written mapping from Application to ApplicationResponseDTO
+ * List mappings share one CourseDTO instance between applications of the same course
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationMapper {
+
+    private final CourseMapper courseMapper;
+
+    public ApplicationResponseDTO toResponse(Application application) {
+        Course course = application.getCourse();
+        return toResponse(application, course == null ? null : courseMapper.toDTO(course));
+    }
+
+    @Timed("admission.mapping")
+    public List<ApplicationResponseDTO> toResponseList(List<Application> applications) {
+        Map<Long, CourseDTO> courses = new HashMap<>();
+        List<ApplicationResponseDTO> responses = new ArrayList<>(applications.size());
+        for (Application application : applications) {
+            responses.add(toResponse(application, courses));
+        }
+        return responses;
+    }
+
+    /**
+     * Map one application, reusing (and filling) a CourseDTO per course id from {@code courses}
+     */
+    public ApplicationResponseDTO toResponse(Application application, Map<Long, CourseDTO> courses) {
+        Course course = application.getCourse();
+        CourseDTO courseDTO = course == null ? null : courses.computeIfAbsent(course.getId(), id -> courseMapper.toDTO(course));
+        return toResponse(application, courseDTO);
+    }
+
+    /**
+     * Map one application using an already mapped course
+     */
+    public ApplicationResponseDTO toResponse(Application application, CourseDTO courseDTO) {
+        return ApplicationResponseDTO.builder()
+                .id(application.getId())
+                .applicantName(application.getApplicantName())
+                .email(application.getEmail())
+                .phoneNumber(application.getPhoneNumber())
+                .address(application.getAddress())
+                .additionalInformation(application.getAdditionalInformation())
+                .status(application.getStatus())
+                .rejectionReason(application.getRejectionReason())
+                .course(courseDTO)
+                .createdAt(application.getCreatedAt())
+                .updatedAt(application.getUpdatedAt())
+                .statusChangedAt(application.getStatusChangedAt())
+                .version(application.getVersion())
+                .build();
+    }
+}
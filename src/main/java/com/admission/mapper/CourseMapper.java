@@ -0,0 +1,40 @@
+package com.admission.mapper;
+
+import com.admission.dto.CourseDTO;
+import com.admission.entity.Course;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hand-written mapping between Course and CourseDTO
+ */
+@Component
+public class CourseMapper {
+
+    public CourseDTO toDTO(Course course) {
+        return CourseDTO.builder()
+                .id(course.getId())
+                .courseName(course.getCourseName())
+                .description(course.getDescription())
+                .duration(course.getDuration())
+                .level(course.getLevel())
+                .active(course.getActive())
+                .capacity(course.getCapacity())
+                .createdAt(course.getCreatedAt())
+                .updatedAt(course.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * Build a new, unsaved course from the DTO; the id and audit timestamps are not copied
+     */
+    public Course toEntity(CourseDTO courseDTO) {
+        return Course.builder()
+                .courseName(courseDTO.getCourseName())
+                .description(courseDTO.getDescription())
+                .duration(courseDTO.getDuration())
+                .level(courseDTO.getLevel())
+                .active(courseDTO.getActive() == null ? Boolean.TRUE : courseDTO.getActive())
+                .capacity(courseDTO.getCapacity())
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.admission.mapper;
+
+import com.admission.dto.CourseDTO;
+import com.admission.dto.StudentDTO;
+import com.admission.entity.Student;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Hand-written mapping from Student to StudentDTO
+ * The course is resolved by id, so the lazy course association is never loaded
+ */
+@Component
+public class StudentMapper {
+
+    @Timed("admission.mapping")
+    public List<StudentDTO> toDTOList(List<Student> students, Function<Long, CourseDTO> courses) {
+        List<StudentDTO> dtos = new ArrayList<>(students.size());
+        for (Student student : students) {
+            dtos.add(toDTO(student, courses.apply(student.getCourse().getId())));
+        }
+        return dtos;
+    }
+
+    public StudentDTO toDTO(Student student, CourseDTO courseDTO) {
+        return StudentDTO.builder()
+                .id(student.getId())
+                .studentName(student.getStudentName())
+                .email(student.getEmail())
+                .phoneNumber(student.getPhoneNumber())
+                .address(student.getAddress())
+                .course(courseDTO)
+                .applicationId(student.getApplicationId())
+                .enrollmentStatus(student.getEnrollmentStatus())
+                .createdAt(student.getCreatedAt())
+                .updatedAt(student.getUpdatedAt())
+                .build();
+    }
+}
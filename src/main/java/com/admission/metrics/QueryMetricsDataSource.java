@@ -0,0 +1,116 @@
+package com.admission.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataSource wrapper that times every statement execution, for both JPA and JdbcTemplate access
+ * Executions are recorded in the {@code admission.db.statements} timer and in the current request's
+ * {@link RequestQueryStats}; time spent fetching rows after execution is not included.
+ * Statements slower than the threshold are counted, and a sample of them is logged with their SQL
+ * (never the bind parameters, which hold applicant data).
+ */
+@Slf4j
+public class QueryMetricsDataSource extends DelegatingDataSource {
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 2000;
+
+    private final Timer statements;
+    private final Counter slowStatements;
+    private final long slowThresholdNanos;
+    private final double slowSampleRate;
+
+    public QueryMetricsDataSource(DataSource target, MeterRegistry meterRegistry,
+                                  long slowThresholdMs, double slowSampleRate) {
+        super(target);
+        this.statements = Timer.builder("admission.db.statements")
+                .description("JDBC statement execution time")
+                .register(meterRegistry);
+        this.slowStatements = Counter.builder("admission.db.statements.slow")
+                .description("JDBC statements slower than the slow-query threshold")
+                .register(meterRegistry);
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+        this.slowSampleRate = slowSampleRate;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    return switch (method.getName()) {
+                        case "createStatement" -> wrap((Statement) result, Statement.class, null);
+                        case "prepareStatement" -> wrap((Statement) result, PreparedStatement.class, (String) args[0]);
+                        case "prepareCall" -> wrap((Statement) result, CallableStatement.class, (String) args[0]);
+                        default -> result;
+                    };
+                });
+    }
+
+    private Statement wrap(Statement statement, Class<? extends Statement> type, String preparedSql) {
+        return (Statement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (!method.getName().startsWith("execute")) {
+                        return invoke(statement, method, args);
+                    }
+                    long start = System.nanoTime();
+                    try {
+                        return invoke(statement, method, args);
+                    } finally {
+                        long elapsed = System.nanoTime() - start;
+                        statements.record(elapsed, TimeUnit.NANOSECONDS);
+                        RequestQueryStats.record(elapsed);
+                        if (elapsed >= slowThresholdNanos) {
+                            slow(method, preparedSql != null ? preparedSql
+                                    : args != null && args.length > 0 && args[0] instanceof String sql ? sql
+                                    : null, elapsed);
+                        }
+                    }
+                });
+    }
+
+    private void slow(Method method, String sql, long elapsedNanos) {
+        slowStatements.increment();
+        if (slowSampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= slowSampleRate) {
+            return;
+        }
+        String logged = sql == null ? "(" + method.getName() + ")"
+                : sql.length() > MAX_LOGGED_SQL_LENGTH ? sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "..." : sql;
+        log.atWarn()
+                .addKeyValue("durationMs", TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .addKeyValue("sql", logged)
+                .log("Slow query took {} ms: {}", TimeUnit.NANOSECONDS.toMillis(elapsedNanos), logged);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
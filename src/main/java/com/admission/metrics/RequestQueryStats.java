@@ -0,0 +1,42 @@
+package com.admission.metrics;
+
+/**
+ * Number and total execution time of the JDBC statements run by the current request
+ * Collection is per thread and only active between {@link #begin()} and {@link #end()}
+ */
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int count;
+    private long nanos;
+
+    private RequestQueryStats() {
+    }
+
+    static void begin() {
+        CURRENT.set(new RequestQueryStats());
+    }
+
+    static RequestQueryStats end() {
+        RequestQueryStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    static void record(long elapsedNanos) {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.count++;
+            stats.nanos += elapsedNanos;
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+}
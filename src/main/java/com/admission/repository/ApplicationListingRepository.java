@@ -0,0 +1,40 @@
+package com.admission.repository;
+
+import com.admission.entity.Application;
+import com.admission.entity.Application.ApplicationStatus;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Keyset pages and streams of applications with their course, optionally filtered by status and course
+ * A null filter or cursor is left out of the query rather than matched by an "IS NULL OR" predicate
+ */
+public interface ApplicationListingRepository {
+
+    /**
+     * Keyset page ordered by id, starting after {@code afterId}
+     */
+    List<Application> findPageOrderById(Long afterId, ApplicationStatus status, Long courseId, Pageable pageable);
+
+    /**
+     * Keyset page ordered by creation time, starting after the ({@code createdAt}, {@code afterId}) position
+     */
+    List<Application> findPageOrderByCreatedAt(LocalDateTime createdAt, Long afterId, ApplicationStatus status,
+                                               Long courseId, Pageable pageable);
+
+    /**
+     * Keyset page ordered by most recent status change, starting after the ({@code changedAt}, {@code beforeId}) position
+     * Applications whose status never changed are not included
+     */
+    List<Application> findPageOrderByStatusChangedAtDesc(LocalDateTime changedAt, Long beforeId,
+                                                         ApplicationStatus status, Long courseId, Pageable pageable);
+
+    Stream<Application> streamOrderById(ApplicationStatus status, Long courseId);
+
+    Stream<Application> streamOrderByCreatedAt(ApplicationStatus status, Long courseId);
+
+    Stream<Application> streamOrderByStatusChangedAtDesc(ApplicationStatus status, Long courseId);
+}
@@ -0,0 +1,133 @@
+package com.admission.repository;
+
+import com.admission.entity.Application;
+import com.admission.entity.Application.ApplicationStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Builds each listing query from the filters actually given
+ * With "(:status IS NULL OR a.status = :status)" every filter combination shares one statement and one plan,
+ * which cannot use the status or course indexes; here each combination has its own text, matched to the
+ * V2 indexes. Keyset positions are written as a range on the sort column plus a tie-breaker, so the range
+ * can be read from the same index.
+ */
+@RequiredArgsConstructor
+class ApplicationListingRepositoryImpl implements ApplicationListingRepository {
+
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Application> findPageOrderById(Long afterId, ApplicationStatus status, Long courseId,
+                                               Pageable pageable) {
+        Listing listing = new Listing(status, courseId);
+        if (afterId != null) {
+            listing.where("a.id > :afterId").bind("afterId", afterId);
+        }
+        return page(listing.query("a.id"), pageable);
+    }
+
+    @Override
+    public List<Application> findPageOrderByCreatedAt(LocalDateTime createdAt, Long afterId,
+                                                      ApplicationStatus status, Long courseId, Pageable pageable) {
+        Listing listing = new Listing(status, courseId);
+        if (createdAt != null) {
+            listing.where("a.createdAt >= :createdAt AND (a.createdAt > :createdAt OR a.id > :afterId)")
+                    .bind("createdAt", createdAt)
+                    .bind("afterId", afterId);
+        }
+        return page(listing.query("a.createdAt, a.id"), pageable);
+    }
+
+    @Override
+    public List<Application> findPageOrderByStatusChangedAtDesc(LocalDateTime changedAt, Long beforeId,
+                                                                ApplicationStatus status, Long courseId,
+                                                                Pageable pageable) {
+        Listing listing = new Listing(status, courseId).where("a.statusChangedAt IS NOT NULL");
+        if (changedAt != null) {
+            listing.where("a.statusChangedAt <= :changedAt AND (a.statusChangedAt < :changedAt OR a.id < :beforeId)")
+                    .bind("changedAt", changedAt)
+                    .bind("beforeId", beforeId);
+        }
+        return page(listing.query("a.statusChangedAt DESC, a.id DESC"), pageable);
+    }
+
+    @Override
+    public Stream<Application> streamOrderById(ApplicationStatus status, Long courseId) {
+        return stream(new Listing(status, courseId).query("a.id"));
+    }
+
+    @Override
+    public Stream<Application> streamOrderByCreatedAt(ApplicationStatus status, Long courseId) {
+        return stream(new Listing(status, courseId).query("a.createdAt, a.id"));
+    }
+
+    @Override
+    public Stream<Application> streamOrderByStatusChangedAtDesc(ApplicationStatus status, Long courseId) {
+        return stream(new Listing(status, courseId).where("a.statusChangedAt IS NOT NULL")
+                .query("a.statusChangedAt DESC, a.id DESC"));
+    }
+
+    private static List<Application> page(TypedQuery<Application> query, Pageable pageable) {
+        return query.setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+
+    private static Stream<Application> stream(TypedQuery<Application> query) {
+        return query.setHint(AvailableHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(AvailableHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    /**
+     * The predicates and parameters of one listing query
+     */
+    private final class Listing {
+
+        private final List<String> predicates = new ArrayList<>();
+        private final Map<String, Object> parameters = new HashMap<>();
+
+        Listing(ApplicationStatus status, Long courseId) {
+            if (status != null) {
+                where("a.status = :status").bind("status", status);
+            }
+            if (courseId != null) {
+                where("a.course.id = :courseId").bind("courseId", courseId);
+            }
+        }
+
+        Listing where(String predicate) {
+            predicates.add(predicate);
+            return this;
+        }
+
+        Listing bind(String name, Object value) {
+            parameters.put(name, value);
+            return this;
+        }
+
+        TypedQuery<Application> query(String orderBy) {
+            StringBuilder jpql = new StringBuilder("SELECT a FROM Application a JOIN FETCH a.course");
+            for (int i = 0; i < predicates.size(); i++) {
+                jpql.append(i == 0 ? " WHERE " : " AND ").append(predicates.get(i));
+            }
+            jpql.append(" ORDER BY ").append(orderBy);
+            TypedQuery<Application> query = entityManager.createQuery(jpql.toString(), Application.class);
+            parameters.forEach(query::setParameter);
+            return query;
+        }
+    }
+}
@@ -2,19 +2,45 @@ package com.admission.repository;
 
 import com.admission.entity.Application;
 import com.admission.entity.Application.ApplicationStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ApplicationRepository extends JpaRepository<Application, Long> {
+public interface ApplicationRepository extends JpaRepository<Application, Long>, ApplicationListingRepository {
    
     List<Application> findByStatus(ApplicationStatus status);
 
+    /**
+     * Load an application together with its course
+     */
+    @EntityGraph(attributePaths = "course")
+    Optional<Application> findWithCourseById(Long id);
+
+    /**
+     * Move an application to {@code status} only if it is still in {@code expected}; returns the rows updated
+     */
+    @Modifying
+    @Query("UPDATE Application a SET a.status = :status, a.rejectionReason = :rejectionReason, " +
+            "a.statusChangedAt = :changedAt, a.updatedAt = :changedAt, a.version = a.version + 1 " +
+            "WHERE a.id = :id AND a.status = :expected")
+    int updateStatusIfCurrent(@Param("id") Long id,
+                              @Param("expected") ApplicationStatus expected,
+                              @Param("status") ApplicationStatus status,
+                              @Param("rejectionReason") String rejectionReason,
+                              @Param("changedAt") LocalDateTime changedAt);
+
     
     Optional<Application> findByEmail(String email);
 
@@ -32,5 +58,15 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     Long countByStatus(ApplicationStatus status);
 
     
+    boolean existsByCourseId(Long courseId);
+
+    
     List<Application> findByStatusOrderByCreatedAtAsc(ApplicationStatus status);
+
+    /**
+     * Load applications with their course in one query; the entities are read-only and never flushed
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT a FROM Application a JOIN FETCH a.course WHERE a.id IN :ids")
+    List<Application> findAllWithCourseByIdIn(@Param("ids") Collection<Long> ids);
 }
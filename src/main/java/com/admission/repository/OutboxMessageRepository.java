@@ -0,0 +1,57 @@
+package com.admission.repository;
+
+import com.admission.entity.OutboxMessage;
+import com.admission.entity.OutboxMessage.DeliveryStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    @Query("SELECT o.id FROM OutboxMessage o WHERE o.deliveryStatus = 'PENDING' AND o.nextAttemptAt <= :now ORDER BY o.id")
+    List<Long> findIdsReadyForDelivery(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Claim candidate rows; rows already claimed by another relay no longer match the status predicate
+     */
+    @Modifying
+    @Query("UPDATE OutboxMessage o SET o.deliveryStatus = 'IN_FLIGHT', o.claimToken = :token, o.claimedAt = :now " +
+            "WHERE o.id IN :ids AND o.deliveryStatus = 'PENDING'")
+    int claim(@Param("ids") Collection<Long> ids, @Param("token") String token, @Param("now") LocalDateTime now);
+
+    List<OutboxMessage> findByClaimToken(String claimToken);
+
+    @Modifying
+    @Query("UPDATE OutboxMessage o SET o.deliveryStatus = 'SENT', o.sentAt = :now, o.claimToken = NULL " +
+            "WHERE o.id IN :ids AND o.deliveryStatus = 'IN_FLIGHT'")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE OutboxMessage o SET o.deliveryStatus = 'PENDING', o.claimToken = NULL " +
+            "WHERE o.deliveryStatus = 'IN_FLIGHT' AND o.claimedAt < :cutoff")
+    int releaseExpiredClaims(@Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query("UPDATE OutboxMessage o SET o.deliveryStatus = 'PENDING', o.claimToken = NULL " +
+            "WHERE o.id IN :ids AND o.deliveryStatus = 'IN_FLIGHT'")
+    int release(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE OutboxMessage o SET o.deliveryStatus = 'PENDING', o.attempts = 0, o.nextAttemptAt = :now " +
+            "WHERE o.deliveryStatus = 'DEAD'")
+    int redriveDead(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM OutboxMessage o WHERE o.deliveryStatus = 'SENT' AND o.sentAt < :cutoff")
+    int deleteSentBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    List<OutboxMessage> findByDeliveryStatusOrderByIdAsc(DeliveryStatus deliveryStatus);
+}
@@ -1,7 +1,10 @@
 package com.admission.repository;
 
 import com.admission.entity.Student;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,10 +17,12 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     Optional<Student> findByEmail(String email);
 
     
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
     List<Student> findByCourseId(Long courseId);
 
     Optional<Student> findByApplicationId(Long applicationId);
 
     
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
     List<Student> findByEnrollmentStatus(String enrollmentStatus);
 }
@@ -0,0 +1,43 @@
+package com.admission.service;
+
+import com.admission.dto.ApplicationSort;
+import com.admission.entity.Application;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Keyset position in an application listing
+ * Encoded as an opaque URL-safe token holding the sort, the sort key of the last row and its id
+ */
+record ApplicationCursor(ApplicationSort sort, LocalDateTime timestamp, Long id) {
+
+    static ApplicationCursor after(ApplicationSort sort, Application last) {
+        LocalDateTime timestamp = switch (sort) {
+            case ID -> null;
+            case CREATED_AT -> last.getCreatedAt();
+            case STATUS_CHANGED_AT -> last.getStatusChangedAt();
+        };
+        return new ApplicationCursor(sort, timestamp, last.getId());
+    }
+
+    static ApplicationCursor decode(String token, ApplicationSort expectedSort) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", 3);
+            ApplicationSort sort = ApplicationSort.valueOf(parts[0]);
+            if (sort != expectedSort) {
+                throw new IllegalArgumentException("cursor was issued for sort " + sort);
+            }
+            LocalDateTime timestamp = parts[1].isEmpty() ? null : LocalDateTime.parse(parts[1]);
+            return new ApplicationCursor(sort, timestamp, Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid cursor: " + token, e);
+        }
+    }
+
+    String encode() {
+        String raw = sort.name() + "|" + (timestamp == null ? "" : timestamp.toString()) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
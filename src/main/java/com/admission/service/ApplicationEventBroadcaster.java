@@ -0,0 +1,402 @@
+package com.admission.service;
+
+import com.admission.config.EventStreamProperties;
+import com.admission.dto.ApplicationEventDTO;
+import com.admission.entity.Application;
+import com.admission.entity.Application.ApplicationStatus;
+import com.admission.exception.TooManySubscribersException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pushes application submissions and status changes to server-sent event subscribers
+ * Events are published once their transaction commits, numbered and kept in a ring buffer so a reconnecting
+ * subscriber resumes after its Last-Event-ID. Each subscriber has a bounded queue, drained by a sender thread
+ * of its own only while it has something to send: queued events for the same application are coalesced to the
+ * latest, and when the queue still overflows the oldest are dropped and the subscriber receives a reset event
+ * telling it to reload. Sender threads are bounded: a subscriber whose write is stuck past the send timeout has
+ * its write interrupted and is dropped, and one that cannot get a sender because they are all busy is dropped
+ * too, so slow clients neither delay the others nor pile up threads. Events are local to this instance.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApplicationEventBroadcaster implements MeterBinder {
+
+    private static final String RESET_EVENT = "reset";
+
+    private final EventStreamProperties properties;
+
+    // Event ids are "<epoch>-<sequence>"; a new epoch per start tells a resuming client its position is gone
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder stalledStreams = new LongAdder();
+    private final LongAdder rejectedStreams = new LongAdder();
+    // Guards the sequence, the ring buffer and subscribing, so a resumed subscriber misses and repeats nothing
+    private final ReentrantLock publishLock = new ReentrantLock();
+    private ApplicationEventDTO[] history;
+    private long sequence;
+    private ThreadPoolExecutor senders;
+
+    @PostConstruct
+    void start() {
+        history = new ApplicationEventDTO[properties.getReplayBufferSize()];
+        // A draining subscriber holds a sender only until its queue is empty, and a stuck write for at most the
+        // send timeout. Platform threads even when the app runs on virtual ones: the emitter writes while holding
+        // its monitor, which would pin a virtual thread's carrier for as long as the write blocks.
+        senders = new ThreadPoolExecutor(properties.getSenders(), properties.getSenders(), 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(properties.getSenderQueueSize()),
+                new CustomizableThreadFactory("event-stream-"));
+        senders.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void stop() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        senders.shutdownNow();
+    }
+
+    /**
+     * Publish the events once the current transaction commits, or immediately outside a transaction
+     */
+    public void publishAfterCommit(Collection<ApplicationEventDTO> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(events);
+            return;
+        }
+        List<ApplicationEventDTO> committed = List.copyOf(events);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(committed);
+            }
+        });
+    }
+
+    public static ApplicationEventDTO submitted(Application application) {
+        return ApplicationEventDTO.builder()
+                .type(ApplicationEventDTO.Type.SUBMITTED)
+                .applicationId(application.getId())
+                .courseId(application.getCourse().getId())
+                .status(application.getStatus())
+                .occurredAt(application.getCreatedAt())
+                .build();
+    }
+
+    public static ApplicationEventDTO statusChanged(Application application, ApplicationStatus previousStatus) {
+        return ApplicationEventDTO.builder()
+                .type(ApplicationEventDTO.Type.STATUS_CHANGED)
+                .applicationId(application.getId())
+                .courseId(application.getCourse().getId())
+                .status(application.getStatus())
+                .previousStatus(previousStatus)
+                .occurredAt(application.getStatusChangedAt())
+                .build();
+    }
+
+    /**
+     * Open a stream of the events for the course and involving the status, both optional
+     * With a {@code lastEventId} the stream starts with the buffered events after it, or with a reset event
+     * when they are no longer buffered
+     */
+    public SseEmitter subscribe(Long courseId, ApplicationStatus status, String lastEventId) {
+        if (subscribers.size() >= properties.getMaxSubscribers()) {
+            throw new TooManySubscribersException(properties.getMaxSubscribers());
+        }
+        SseEmitter emitter = new SseEmitter(properties.getTimeoutMs());
+        Subscriber subscriber = new Subscriber(emitter, courseId, status);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        publishLock.lock();
+        try {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                replay(subscriber, lastEventId.trim());
+            }
+            subscribers.add(subscriber);
+        } finally {
+            publishLock.unlock();
+        }
+        // An immediate comment sends the response headers, so the client knows it is connected
+        subscriber.heartbeat();
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        subscribers.forEach(Subscriber::heartbeat);
+    }
+
+    /**
+     * Drop the subscribers stuck in a write for longer than the send timeout
+     * The write is interrupted, which closes the connection and returns the sender to the pool
+     */
+    @Scheduled(fixedDelayString = "${app.events.send-timeout-ms:10000}")
+    public void dropStalledSubscribers() {
+        long now = System.nanoTime();
+        long timeout = TimeUnit.MILLISECONDS.toNanos(properties.getSendTimeoutMs());
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.markIfStalled(now, timeout) && subscribers.remove(subscriber)) {
+                stalledStreams.increment();
+                log.debug("Dropping event stream stuck in a write for over {} ms", properties.getSendTimeoutMs());
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("admission.events.subscribers", subscribers, Set::size)
+                .description("Open application event streams")
+                .register(registry);
+        FunctionCounter.builder("admission.events.dropped", dropped, LongAdder::sum)
+                .description("Events dropped because a subscriber fell too far behind")
+                .register(registry);
+        FunctionCounter.builder("admission.events.stalled", stalledStreams, LongAdder::sum)
+                .description("Subscribers dropped because a write to them outlasted the send timeout")
+                .register(registry);
+        FunctionCounter.builder("admission.events.rejected", rejectedStreams, LongAdder::sum)
+                .description("Subscribers dropped because every sender thread was busy")
+                .register(registry);
+    }
+
+    private void publish(Collection<ApplicationEventDTO> events) {
+        publishLock.lock();
+        try {
+            for (ApplicationEventDTO event : events) {
+                long number = ++sequence;
+                ApplicationEventDTO numbered = event.toBuilder().id(epoch + "-" + number).build();
+                history[(int) (number % history.length)] = numbered;
+                for (Subscriber subscriber : subscribers) {
+                    if (subscriber.matches(numbered)) {
+                        subscriber.offer(numbered);
+                    }
+                }
+            }
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    /**
+     * Queue the buffered events after {@code lastEventId}; called holding the publish lock
+     */
+    private void replay(Subscriber subscriber, String lastEventId) {
+        long after = -1;
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator > 0 && lastEventId.substring(0, separator).equals(epoch)) {
+            try {
+                after = Long.parseLong(lastEventId.substring(separator + 1));
+            } catch (NumberFormatException e) {
+                after = -1;
+            }
+        }
+        long oldest = Math.max(1, sequence - history.length + 1);
+        if (after < oldest - 1 || after > sequence) {
+            subscriber.reset();
+            return;
+        }
+        for (long number = after + 1; number <= sequence; number++) {
+            ApplicationEventDTO event = history[(int) (number % history.length)];
+            if (subscriber.matches(event)) {
+                subscriber.offer(event);
+            }
+        }
+    }
+
+    private static String eventName(ApplicationEventDTO.Type type) {
+        return type.name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Long courseId;
+        private final ApplicationStatus status;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // Guards writer and writingSince, so only a write to this subscriber is ever interrupted
+        private final ReentrantLock writeLock = new ReentrantLock();
+        private Thread writer;
+        private long writingSince;
+        private volatile boolean stalled;
+        // Guarded by this; keyed by application, so a newer event for the same application replaces a queued one
+        private final LinkedHashMap<Long, ApplicationEventDTO> pending = new LinkedHashMap<>();
+        private long droppedSinceReset;
+        private boolean resetDue;
+        private boolean heartbeatDue;
+
+        Subscriber(SseEmitter emitter, Long courseId, ApplicationStatus status) {
+            this.emitter = emitter;
+            this.courseId = courseId;
+            this.status = status;
+        }
+
+        boolean matches(ApplicationEventDTO event) {
+            return (courseId == null || courseId.equals(event.getCourseId()))
+                    && (status == null || status == event.getStatus() || status == event.getPreviousStatus());
+        }
+
+        void offer(ApplicationEventDTO event) {
+            synchronized (this) {
+                pending.remove(event.getApplicationId());
+                pending.put(event.getApplicationId(), event);
+                if (pending.size() > properties.getSubscriberBufferSize()) {
+                    Iterator<ApplicationEventDTO> oldest = pending.values().iterator();
+                    oldest.next();
+                    oldest.remove();
+                    droppedSinceReset++;
+                    resetDue = true;
+                    dropped.increment();
+                }
+            }
+            schedule();
+        }
+
+        void reset() {
+            synchronized (this) {
+                resetDue = true;
+            }
+            schedule();
+        }
+
+        void heartbeat() {
+            synchronized (this) {
+                heartbeatDue = true;
+            }
+            schedule();
+        }
+
+        boolean markIfStalled(long now, long timeout) {
+            writeLock.lock();
+            try {
+                if (writer != null && now - writingSince > timeout) {
+                    stalled = true;
+                    writer.interrupt();
+                }
+            } finally {
+                writeLock.unlock();
+            }
+            return stalled;
+        }
+
+        private void schedule() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                senders.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // Nothing is being written to it, so the stream can be completed here; draining stays set
+                if (subscribers.remove(this)) {
+                    rejectedStreams.increment();
+                    log.debug("Dropping event stream: all {} senders are busy", properties.getSenders());
+                }
+                emitter.complete();
+            }
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            writeLock.lock();
+            try {
+                writer = Thread.currentThread();
+                writingSince = System.nanoTime();
+            } finally {
+                writeLock.unlock();
+            }
+            try {
+                emitter.send(event);
+            } finally {
+                writeLock.lock();
+                try {
+                    writer = null;
+                    // An interrupt meant for this write must not reach the next subscriber the thread serves
+                    Thread.interrupted();
+                } finally {
+                    writeLock.unlock();
+                }
+            }
+            if (stalled) {
+                throw new IOException("Write took longer than the send timeout");
+            }
+        }
+
+        /**
+         * Send everything queued, outside the lock so a slow client never holds up publishing
+         */
+        private void drain() {
+            try {
+                while (true) {
+                    List<SseEmitter.SseEventBuilder> batch = new ArrayList<>();
+                    synchronized (this) {
+                        if (resetDue) {
+                            batch.add(SseEmitter.event().name(RESET_EVENT)
+                                    .data(Map.of("dropped", droppedSinceReset), MediaType.APPLICATION_JSON));
+                            resetDue = false;
+                            droppedSinceReset = 0;
+                        }
+                        for (ApplicationEventDTO event : pending.values()) {
+                            batch.add(SseEmitter.event().id(event.getId()).name(eventName(event.getType()))
+                                    .data(event, MediaType.APPLICATION_JSON));
+                        }
+                        pending.clear();
+                        if (batch.isEmpty() && heartbeatDue) {
+                            batch.add(SseEmitter.event().comment(""));
+                        }
+                        heartbeatDue = false;
+                        if (batch.isEmpty()) {
+                            draining.set(false);
+                            return;
+                        }
+                    }
+                    for (SseEmitter.SseEventBuilder event : batch) {
+                        send(event);
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client went away or the stream already ended; stop sending to it
+                log.debug("Closing event stream: {}", e.getMessage());
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+            } catch (RuntimeException e) {
+                log.warn("Event stream send failed", e);
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.admission.service;
+
+import com.admission.dto.ApplicationRequestDTO;
+import com.admission.dto.ImportErrorDTO;
+import com.admission.dto.ImportResultDTO;
+import com.admission.entity.Application;
+import com.admission.entity.Application.ApplicationStatus;
+import com.admission.repository.CourseRepository;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for bulk application import
+ * Files are parsed one record at a time and written in chunks, each chunk in its own transaction;
+ * invalid records are reported individually and do not stop the import
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApplicationImportService {
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private final CourseRepository courseRepository;
+    private final CourseCatalogCache courseCatalogCache;
+    private final ApplicationStatisticsService applicationStatisticsService;
+    private final EmailBloomFilter emailBloomFilter;
+    private final ApplicationSearchIndex applicationSearchIndex;
+    private final ApplicationResultSnapshot applicationResultSnapshot;
+    private final ChangeVersionService changeVersionService;
+    private final ApplicationEventBroadcaster applicationEventBroadcaster;
+    private final EntityManager entityManager;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.import.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * Import a CSV file whose header row names the ApplicationRequestDTO fields
+     */
+    public ImportResultDTO importCsv(InputStream in) throws IOException {
+        ObjectReader reader = CSV_MAPPER.readerFor(ApplicationRequestDTO.class)
+                .with(CsvSchema.emptySchema().withHeader());
+        try (MappingIterator<ApplicationRequestDTO> records = reader.readValues(in)) {
+            return importRecords(records);
+        }
+    }
+
+    /**
+     * Import a file with one ApplicationRequestDTO JSON object per line
+     */
+    public ImportResultDTO importNdjson(InputStream in) throws IOException {
+        try (MappingIterator<ApplicationRequestDTO> records =
+                     objectMapper.readerFor(ApplicationRequestDTO.class).readValues(in)) {
+            return importRecords(records);
+        }
+    }
+
+    private ImportResultDTO importRecords(MappingIterator<ApplicationRequestDTO> records) {
+        ImportState state = new ImportState();
+        List<ImportRecord> chunk = new ArrayList<>(chunkSize);
+        long number = 0;
+        while (true) {
+            ApplicationRequestDTO request;
+            try {
+                if (!records.hasNextValue()) {
+                    break;
+                }
+                number++;
+                request = records.nextValue();
+            } catch (IOException | RuntimeException e) {
+                // The iterator skips the rest of a malformed record, so parsing resumes at the next one
+                state.fail(number, null, "Unreadable record: " + e.getMessage());
+                continue;
+            }
+            // Normalized once here, so the in-file and database duplicate checks and the stored row all agree
+            request.setEmail(Application.normalizeEmail(request.getEmail()));
+            chunk.add(new ImportRecord(number, request));
+            if (chunk.size() == chunkSize) {
+                processChunk(chunk, state);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            processChunk(chunk, state);
+        }
+
+        state.errors.sort(Comparator.comparingLong(ImportErrorDTO::getRecord));
+        return ImportResultDTO.builder()
+                .total(number)
+                .imported(state.imported)
+                .failed(state.errors.size())
+                .errors(state.errors)
+                .build();
+    }
+
+    private void processChunk(List<ImportRecord> chunk, ImportState state) {
+        List<ImportRecord> valid = new ArrayList<>(chunk.size());
+        for (ImportRecord record : chunk) {
+            String error = validate(record.request(), state.emails);
+            if (error != null) {
+                state.fail(record.number(), record.request().getEmail(), error);
+            } else {
+                valid.add(record);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<ImportRecord> rejected = transactionTemplate.execute(status -> writeChunk(valid));
+            for (ImportRecord record : rejected) {
+                state.fail(record.number(), record.request().getEmail(), "Email already registered with an application");
+            }
+            state.imported += valid.size() - rejected.size();
+        } catch (RuntimeException e) {
+            log.error("Import chunk of {} record(s) failed", valid.size(), e);
+            for (ImportRecord record : valid) {
+                state.fail(record.number(), record.request().getEmail(), "Batch failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Persist the chunk, skipping emails that already have an application; returns the skipped records
+     */
+    private List<ImportRecord> writeChunk(List<ImportRecord> records) {
+        Set<String> candidates = records.stream()
+                .map(record -> record.request().getEmail())
+                .filter(emailBloomFilter::mightContain)
+                .collect(Collectors.toSet());
+        Set<String> existing = candidates.isEmpty() ? Set.of() : new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT email FROM applications WHERE email IN (:emails)", Map.of("emails", candidates), String.class));
+
+        List<ImportRecord> rejected = new ArrayList<>();
+        List<Application> imported = new ArrayList<>(records.size());
+        Map<ApplicationStatisticsService.CounterKey, Long> counterDeltas = new HashMap<>();
+        for (ImportRecord record : records) {
+            ApplicationRequestDTO request = record.request();
+            if (existing.contains(request.getEmail())) {
+                rejected.add(record);
+                continue;
+            }
+            Application application = Application.builder()
+                    .applicantName(request.getApplicantName())
+                    .email(request.getEmail())
+                    .phoneNumber(request.getPhoneNumber())
+                    .address(request.getAddress())
+                    .additionalInformation(request.getAdditionalInformation())
+                    .course(courseRepository.getReferenceById(request.getCourseId()))
+                    .status(ApplicationStatus.PENDING)
+                    .build();
+            entityManager.persist(application);
+            imported.add(application);
+            counterDeltas.merge(new ApplicationStatisticsService.CounterKey(request.getCourseId(), ApplicationStatus.PENDING),
+                    1L, Long::sum);
+        }
+        // Inserts go out in JDBC batches; clearing keeps the persistence context from growing with the file
+        entityManager.flush();
+        entityManager.clear();
+        applicationStatisticsService.applyDeltas(counterDeltas);
+        imported.forEach(application -> emailBloomFilter.add(application.getEmail()));
+        applicationSearchIndex.indexAfterCommit(imported);
+        applicationResultSnapshot.updateAfterCommit(imported);
+        applicationEventBroadcaster.publishAfterCommit(imported.stream()
+                .map(ApplicationEventBroadcaster::submitted)
+                .toList());
+        if (!imported.isEmpty()) {
+            changeVersionService.recordChange(ChangeVersionService.Table.APPLICATIONS);
+        }
+        return rejected;
+    }
+
+    private String validate(ApplicationRequestDTO request, Set<String> emails) {
+        Set<ConstraintViolation<ApplicationRequestDTO>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (courseCatalogCache.getById(request.getCourseId()).isEmpty()) {
+            return "Course not found with id: " + request.getCourseId();
+        }
+        if (!emails.add(request.getEmail())) {
+            return "Duplicate email in the same file";
+        }
+        return null;
+    }
+
+    private record ImportRecord(long number, ApplicationRequestDTO request) {
+    }
+
+    private static final class ImportState {
+        private final Set<String> emails = new HashSet<>();
+        private final List<ImportErrorDTO> errors = new ArrayList<>();
+        private long imported;
+
+        void fail(long record, String email, String error) {
+            errors.add(ImportErrorDTO.builder().record(record).email(email).error(error).build());
+        }
+    }
+}
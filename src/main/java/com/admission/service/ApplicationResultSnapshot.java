@@ -0,0 +1,312 @@
+package com.admission.service;
+
+import com.admission.entity.Application;
+import com.admission.entity.Application.ApplicationStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory snapshot of every application's result for the public lookup by id and email
+ * Each application takes a few primitive columns: a keyed hash of its email, its status, course and version,
+ * the decision time and a number into a dictionary of rejection reasons. Changes made through this instance
+ * are applied when their transaction commits; changes made elsewhere are picked up by a periodic refresh of
+ * the recently updated rows, which bounds their staleness to the refresh interval.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApplicationResultSnapshot {
+
+    private static final String SELECT_RESULTS = "SELECT id, course_id, status, version, email, rejection_reason, " +
+            "status_changed_at FROM applications";
+    private static final long NO_TIME = Long.MIN_VALUE;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Transactions that commit later than this after stamping updated_at, or clocks further apart, can be missed
+    @Value("${app.result-lookup.refresh-overlap-ms:30000}")
+    private long refreshOverlapMs;
+
+    // Random per start, so the stored hashes cannot be matched against precomputed ones
+    private final long emailSeed = new SecureRandom().nextLong();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // One rebuild or refresh at a time; a lock rather than synchronized, so a virtual thread reading the table
+    // does not pin its carrier
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private Results current;
+    // Results that arrived while a rebuild was scanning the table, replayed into it before the swap
+    private List<Result> arrivedDuringRebuild;
+    // The next refresh re-reads the rows updated since then; only touched under the rebuild lock
+    private LocalDateTime refreshFrom;
+
+    /**
+     * Apply the applications' current results once the current transaction commits, or immediately outside one
+     */
+    public void updateAfterCommit(Collection<Application> applications) {
+        if (applications.isEmpty()) {
+            return;
+        }
+        List<Result> results = applications.stream().map(this::resultOf).toList();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(results);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(results);
+            }
+        });
+    }
+
+    /**
+     * The result of the application, if it exists and was submitted with this email (ignoring case)
+     * Only reads the database while the snapshot is first being built
+     */
+    public Optional<Result> lookup(long applicationId, String email) {
+        long emailHash = hashEmail(email);
+        lock.readLock().lock();
+        try {
+            if (current != null) {
+                return Optional.ofNullable(current.get(applicationId, emailHash));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return jdbcTemplate.query(SELECT_RESULTS + " WHERE id = ?", (rs, row) -> read(rs), applicationId).stream()
+                .filter(result -> result.emailHash() == emailHash)
+                .findFirst();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            rebuildLocked();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void rebuildLocked() {
+        long started = System.nanoTime();
+        LocalDateTime startedAt = LocalDateTime.now();
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM applications", Long.class);
+        Results next = new Results(existing == null ? 0 : existing.intValue());
+        lock.writeLock().lock();
+        try {
+            arrivedDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(SELECT_RESULTS);
+                statement.setFetchSize(1000);
+                return statement;
+            }, rs -> {
+                next.upsert(read(rs));
+            });
+        } finally {
+            lock.writeLock().lock();
+            try {
+                // Versions decide, so a change already read from the table is not undone by its replay
+                arrivedDuringRebuild.forEach(next::upsert);
+                arrivedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            current = next;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        refreshFrom = startedAt.minusNanos(refreshOverlapMs * 1_000_000);
+        log.info("Result snapshot built from {} application(s) in {} ms", next.size,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Re-read the applications updated since the last refresh, bringing in changes made by other instances
+     */
+    @Scheduled(initialDelayString = "${app.result-lookup.refresh-interval-ms:5000}",
+            fixedDelayString = "${app.result-lookup.refresh-interval-ms:5000}")
+    public void refresh() {
+        rebuildLock.lock();
+        try {
+            if (refreshFrom == null) {
+                return;
+            }
+            LocalDateTime startedAt = LocalDateTime.now();
+            List<Result> results = jdbcTemplate.query(SELECT_RESULTS + " WHERE updated_at >= ?",
+                    (rs, row) -> read(rs), Timestamp.valueOf(refreshFrom));
+            apply(results);
+            refreshFrom = startedAt.minusNanos(refreshOverlapMs * 1_000_000);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void apply(List<Result> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (current != null) {
+                results.forEach(current::upsert);
+            }
+            if (arrivedDuringRebuild != null) {
+                arrivedDuringRebuild.addAll(results);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Result resultOf(Application application) {
+        return new Result(application.getId(), application.getCourse().getId(), application.getStatus(),
+                application.getVersion() == null ? 0 : application.getVersion(), hashEmail(application.getEmail()),
+                application.getRejectionReason(), application.getStatusChangedAt());
+    }
+
+    private Result read(ResultSet rs) throws SQLException {
+        Timestamp changedAt = rs.getTimestamp(7);
+        return new Result(rs.getLong(1), rs.getLong(2), ApplicationStatus.valueOf(rs.getString(3)), rs.getLong(4),
+                hashEmail(rs.getString(5)), rs.getString(6), changedAt == null ? null : changedAt.toLocalDateTime());
+    }
+
+    /**
+     * 64-bit hash of the normalized email (FNV-1a over its UTF-8 bytes, seeded, with a MurmurHash3 finish)
+     */
+    private long hashEmail(String email) {
+        byte[] bytes = Application.normalizeEmail(email).getBytes(StandardCharsets.UTF_8);
+        long h = emailSeed ^ 0xCBF29CE484222325L;
+        for (byte b : bytes) {
+            h = (h ^ (b & 0xFF)) * 0x100000001B3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+
+    public record Result(long applicationId, long courseId, ApplicationStatus status, long version, long emailHash,
+                         String rejectionReason, LocalDateTime statusChangedAt) {
+    }
+
+    /**
+     * Results in column arrays indexed by slot, with rejection reasons stored once each
+     * Not thread-safe; guarded by the enclosing lock once published
+     */
+    private static final class Results {
+
+        private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+
+        private long[] courseIds;
+        private long[] versions;
+        private long[] emailHashes;
+        private long[] statusChangedAt;
+        private byte[] statuses;
+        // Number of the rejection reason plus one, zero for none
+        private int[] reasons;
+        private int size;
+        private final List<String> reasonTexts = new ArrayList<>();
+        private final Map<String, Integer> reasonNumbers = new HashMap<>();
+        private final LongIntMap slots;
+
+        Results(int expected) {
+            int capacity = Math.max(16, expected + expected / 8);
+            courseIds = new long[capacity];
+            versions = new long[capacity];
+            emailHashes = new long[capacity];
+            statusChangedAt = new long[capacity];
+            statuses = new byte[capacity];
+            reasons = new int[capacity];
+            slots = new LongIntMap(capacity);
+        }
+
+        Result get(long applicationId, long emailHash) {
+            int slot = slots.get(applicationId);
+            if (slot < 0 || emailHashes[slot] != emailHash) {
+                return null;
+            }
+            long changedAt = statusChangedAt[slot];
+            return new Result(applicationId, courseIds[slot], STATUSES[statuses[slot]], versions[slot], emailHash,
+                    reasons[slot] == 0 ? null : reasonTexts.get(reasons[slot] - 1),
+                    changedAt == NO_TIME ? null : LocalDateTime.ofEpochSecond(changedAt / 1_000_000_000,
+                            (int) (changedAt % 1_000_000_000), ZoneOffset.UTC));
+        }
+
+        /**
+         * Add the result, or replace it if this is a newer version of the application
+         */
+        void upsert(Result result) {
+            int slot = slots.get(result.applicationId());
+            if (slot < 0) {
+                if (size == versions.length) {
+                    int capacity = size + (size >> 1);
+                    courseIds = Arrays.copyOf(courseIds, capacity);
+                    versions = Arrays.copyOf(versions, capacity);
+                    emailHashes = Arrays.copyOf(emailHashes, capacity);
+                    statusChangedAt = Arrays.copyOf(statusChangedAt, capacity);
+                    statuses = Arrays.copyOf(statuses, capacity);
+                    reasons = Arrays.copyOf(reasons, capacity);
+                }
+                slot = size++;
+                slots.put(result.applicationId(), slot);
+            } else if (result.version() <= versions[slot]) {
+                return;
+            }
+            courseIds[slot] = result.courseId();
+            versions[slot] = result.version();
+            emailHashes[slot] = result.emailHash();
+            statuses[slot] = (byte) result.status().ordinal();
+            reasons[slot] = reasonNumber(result.rejectionReason());
+            LocalDateTime changedAt = result.statusChangedAt();
+            statusChangedAt[slot] = changedAt == null ? NO_TIME
+                    : changedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000 + changedAt.getNano();
+        }
+
+        private int reasonNumber(String reason) {
+            if (reason == null) {
+                return 0;
+            }
+            return reasonNumbers.computeIfAbsent(reason, text -> {
+                reasonTexts.add(text);
+                return reasonTexts.size();
+            });
+        }
+    }
+}
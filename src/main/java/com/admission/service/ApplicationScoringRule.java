@@ -0,0 +1,28 @@
+package com.admission.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * A rule the selection engine uses to score pending applications
+ * Rules are Spring beans, so adding one is a matter of declaring a component; the engine sums their
+ * scores weighted by app.selection.weights.{name}
+ */
+public interface ApplicationScoringRule {
+
+    /**
+     * Name the rule's weight is configured under
+     */
+    String name();
+
+    /**
+     * Score between 0 and 1, higher is better; called concurrently for candidates of different courses
+     */
+    double score(Candidate candidate, LocalDateTime rankedAt);
+
+    /**
+     * The fields of a pending application that rules can score on
+     */
+    record Candidate(long applicationId, long courseId, String address, String additionalInformation,
+                     LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,341 @@
+package com.admission.service;
+
+import com.admission.entity.Application;
+import com.admission.entity.Application.ApplicationStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index over applicant name, email, phone number and additional information
+ * Every query word must match an indexed word, the last one only its start so results follow the user's
+ * typing; exact matches of the last word rank above prefix matches and newer applications above older ones. Documents are numbered in arrival order so each posting list
+ * stays sorted, and a query ORs the postings of every matching word into one bitset per query word
+ * before intersecting them. The index is rebuilt from the applications table at startup and kept up to
+ * date as applications are submitted and change status.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApplicationSearchIndex {
+
+    private static final int MAX_QUERY_WORDS = 10;
+    // A shorter last word is only matched exactly; a one-letter prefix would expand to most of the dictionary
+    private static final int MIN_PREFIX_LENGTH = 2;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // One rebuild at a time; a lock rather than synchronized, so a virtual thread scanning the table does not pin
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private Index current;
+    // Documents that arrived while a rebuild was scanning the table, replayed into it before the swap
+    private List<Document> arrivedDuringRebuild;
+
+    /**
+     * Index the applications once the current transaction commits, or immediately outside a transaction
+     * Their fields are read now, so later changes to the entities do not leak into the index
+     */
+    public void indexAfterCommit(Collection<Application> applications) {
+        if (applications.isEmpty()) {
+            return;
+        }
+        List<Document> documents = applications.stream().map(Document::of).toList();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            index(documents);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                index(documents);
+            }
+        });
+    }
+
+    private void index(List<Document> documents) {
+        lock.writeLock().lock();
+        try {
+            if (current != null) {
+                documents.forEach(current::upsert);
+            }
+            if (arrivedDuringRebuild != null) {
+                arrivedDuringRebuild.addAll(documents);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * One page of the ids of applications matching every word of {@code query}, best match first,
+     * with the total number of matches
+     */
+    public SearchHits search(String query, ApplicationStatus status, Long courseId, int offset, int limit) {
+        List<String> words = tokenize(query).stream().limit(MAX_QUERY_WORDS).toList();
+        if (words.isEmpty()) {
+            throw new RuntimeException("Search query must contain a letter or digit");
+        }
+        lock.readLock().lock();
+        try {
+            if (current == null) {
+                throw new RuntimeException("Search index is still being built");
+            }
+            return current.search(words, status == null ? -1 : status.ordinal(), courseId, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            rebuildLocked();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void rebuildLocked() {
+        long started = System.nanoTime();
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM applications", Long.class);
+        Index next = new Index(existing == null ? 0 : existing.intValue());
+        lock.writeLock().lock();
+        try {
+            arrivedDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement("SELECT id, course_id, status, version, " +
+                        "applicant_name, email, phone_number, additional_information FROM applications ORDER BY id");
+                statement.setFetchSize(1000);
+                return statement;
+            }, rs -> {
+                next.upsert(new Document(rs.getLong(1), rs.getLong(2), ApplicationStatus.valueOf(rs.getString(3)),
+                        rs.getLong(4), rs.getString(5), rs.getString(6), rs.getString(7), rs.getString(8)));
+            });
+        } finally {
+            lock.writeLock().lock();
+            try {
+                // Versions decide, so a change already read from the table is not undone by its replay
+                arrivedDuringRebuild.forEach(next::upsert);
+                arrivedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            current = next;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Search index built from {} application(s) with {} word(s) in {} ms", next.size, next.postings.size(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Lower-cased runs of letters and digits, in order of first appearance
+     */
+    private static Set<String> tokenize(String text) {
+        Set<String> words = new LinkedHashSet<>();
+        if (text == null) {
+            return words;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    public record SearchHits(List<Long> applicationIds, long total) {
+    }
+
+    private record Document(long applicationId, long courseId, ApplicationStatus status, long version,
+                            String applicantName, String email, String phoneNumber, String additionalInformation) {
+
+        static Document of(Application application) {
+            return new Document(application.getId(), application.getCourse().getId(), application.getStatus(),
+                    application.getVersion() == null ? 0 : application.getVersion(), application.getApplicantName(),
+                    application.getEmail(), application.getPhoneNumber(), application.getAdditionalInformation());
+        }
+
+        Set<String> words() {
+            Set<String> words = tokenize(applicantName);
+            words.addAll(tokenize(email));
+            words.addAll(tokenize(phoneNumber));
+            words.addAll(tokenize(additionalInformation));
+            return words;
+        }
+    }
+
+    /**
+     * Documents in column arrays indexed by document number, and a sorted dictionary of posting lists
+     * Not thread-safe; guarded by the enclosing lock once published
+     */
+    private static final class Index {
+
+        private long[] applicationIds;
+        private long[] courseIds;
+        private long[] versions;
+        private byte[] statuses;
+        private int size;
+        // Posting arrays hold their length in the first slot, followed by ascending document numbers
+        private final TreeMap<String, int[]> postings = new TreeMap<>();
+        private final LongIntMap documentNumbers;
+
+        Index(int expected) {
+            int capacity = Math.max(16, expected + expected / 8);
+            applicationIds = new long[capacity];
+            courseIds = new long[capacity];
+            versions = new long[capacity];
+            statuses = new byte[capacity];
+            documentNumbers = new LongIntMap(capacity);
+        }
+
+        /**
+         * Add the application, or update its status if this is a newer version of it
+         */
+        void upsert(Document document) {
+            int doc = documentNumbers.get(document.applicationId());
+            if (doc >= 0) {
+                if (document.version() > versions[doc]) {
+                    versions[doc] = document.version();
+                    statuses[doc] = (byte) document.status().ordinal();
+                }
+                return;
+            }
+
+            if (size == applicationIds.length) {
+                int capacity = size + (size >> 1);
+                applicationIds = Arrays.copyOf(applicationIds, capacity);
+                courseIds = Arrays.copyOf(courseIds, capacity);
+                versions = Arrays.copyOf(versions, capacity);
+                statuses = Arrays.copyOf(statuses, capacity);
+            }
+            doc = size++;
+            applicationIds[doc] = document.applicationId();
+            courseIds[doc] = document.courseId();
+            versions[doc] = document.version();
+            statuses[doc] = (byte) document.status().ordinal();
+            documentNumbers.put(document.applicationId(), doc);
+            for (String word : document.words()) {
+                int[] list = postings.get(word);
+                if (list == null) {
+                    postings.put(word, new int[]{1, doc});
+                    continue;
+                }
+                if (list[0] + 1 == list.length) {
+                    list = Arrays.copyOf(list, list.length + (list.length >> 1) + 1);
+                    postings.put(word, list);
+                }
+                list[++list[0]] = doc;
+            }
+        }
+
+        SearchHits search(List<String> words, int status, Long courseId, int offset, int limit) {
+            int bitsetWords = (size + 63) >>> 6;
+            long[] matches = null;
+            long[][] exact = new long[words.size()][];
+            for (int w = 0; w < words.size(); w++) {
+                String word = words.get(w);
+                long[] wordMatches = new long[bitsetWords];
+                int[] exactList = postings.get(word);
+                boolean prefix = w == words.size() - 1 && word.length() >= MIN_PREFIX_LENGTH;
+                if (prefix) {
+                    for (int[] list : postings.subMap(word, true, word + Character.MAX_VALUE, false).values()) {
+                        setBits(wordMatches, list);
+                    }
+                    if (exactList != null) {
+                        exact[w] = new long[bitsetWords];
+                        setBits(exact[w], exactList);
+                    }
+                } else if (exactList != null) {
+                    setBits(wordMatches, exactList);
+                    exact[w] = wordMatches;
+                }
+                matches = matches == null ? wordMatches.clone() : and(matches, wordMatches);
+            }
+
+            // Keep the best offset + limit hits, keyed by score then document number so newer ones win ties
+            int wanted = offset + limit;
+            PriorityQueue<Long> best = new PriorityQueue<>();
+            long total = 0;
+            for (int i = 0; i < matches.length; i++) {
+                long bits = matches[i];
+                while (bits != 0) {
+                    int doc = (i << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    if ((status >= 0 && statuses[doc] != status) || (courseId != null && courseIds[doc] != courseId)) {
+                        continue;
+                    }
+                    total++;
+                    long score = words.size();
+                    for (long[] exactMatches : exact) {
+                        if (exactMatches != null && (exactMatches[doc >>> 6] & (1L << doc)) != 0) {
+                            score++;
+                        }
+                    }
+                    long key = (score << 32) | doc;
+                    if (best.size() < wanted) {
+                        best.add(key);
+                    } else if (key > best.peek()) {
+                        best.poll();
+                        best.add(key);
+                    }
+                }
+            }
+
+            // The page is the weakest of the kept hits, so it comes off the heap first, last rank first
+            int pageSize = Math.max(0, best.size() - offset);
+            Long[] ranked = new Long[pageSize];
+            for (int i = pageSize - 1; i >= 0; i--) {
+                ranked[i] = applicationIds[(int) (best.poll() & 0xFFFFFFFFL)];
+            }
+            return new SearchHits(List.of(ranked), total);
+        }
+
+        private static void setBits(long[] bitset, int[] list) {
+            for (int i = 1; i <= list[0]; i++) {
+                bitset[list[i] >>> 6] |= 1L << list[i];
+            }
+        }
+
+        private static long[] and(long[] a, long[] b) {
+            for (int i = 0; i < a.length; i++) {
+                a[i] &= b[i];
+            }
+            return a;
+        }
+    }
+}
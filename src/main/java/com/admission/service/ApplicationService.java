@@ -1,159 +1,423 @@
 package com.admission.service;
 
+import com.admission.datasource.ReplicaLagMonitor;
 import com.admission.dto.ApplicationRequestDTO;
+import com.admission.dto.ApplicationResultDTO;
 import com.admission.dto.ApplicationResponseDTO;
+import com.admission.dto.ApplicationSort;
 import com.admission.dto.ApplicationStatusUpdateDTO;
+import com.admission.dto.CourseDTO;
+import com.admission.dto.CourseStatisticsDTO;
+import com.admission.dto.CursorPageDTO;
+import com.admission.dto.ResultLookupRequestDTO;
+import com.admission.dto.StudentDTO;
 import com.admission.entity.Application;
 import com.admission.entity.Application.ApplicationStatus;
-import com.admission.entity.Course;
 import com.admission.entity.Student;
+import com.admission.exception.ConcurrentStatusUpdateException;
+import com.admission.exception.CourseFullException;
+import com.admission.exception.DuplicateEmailException;
+import com.admission.exception.IdempotencyKeyInUseException;
+import com.admission.exception.InvalidStatusTransitionException;
+import com.admission.exception.ResultNotFoundException;
+import com.admission.mapper.ApplicationMapper;
+import com.admission.mapper.StudentMapper;
 import com.admission.repository.ApplicationRepository;
 import com.admission.repository.CourseRepository;
 import com.admission.repository.StudentRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service class for Application management
  * Handles business logic for application processing and status updates
  */
 @Service
+@Timed("admission.service")
 @RequiredArgsConstructor
 @Transactional
 public class ApplicationService {
 
+    private static final String EMAIL_CONSTRAINT = "uk_applications_email";
+
     private final ApplicationRepository applicationRepository;
     private final CourseRepository courseRepository;
     private final StudentRepository studentRepository;
-    private final ModelMapper modelMapper;
+    private final ApplicationMapper applicationMapper;
+    private final StudentMapper studentMapper;
+    private final CourseCatalogCache courseCatalogCache;
+    private final ApplicationStatisticsService applicationStatisticsService;
     private final EmailService emailService;
+    private final NotificationOutboxService notificationOutboxService;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final EmailBloomFilter emailBloomFilter;
+    private final IdempotencyKeyService idempotencyKeyService;
+    private final CourseSeatService courseSeatService;
+    private final ApplicationSearchIndex applicationSearchIndex;
+    private final ApplicationResultSnapshot applicationResultSnapshot;
+    private final ChangeVersionService changeVersionService;
+    private final ApplicationEventBroadcaster applicationEventBroadcaster;
+    private final ObjectProvider<ReplicaLagMonitor> replicaLagMonitor;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.pagination.default-size:100}")
+    private int defaultPageSize;
+
+    @Value("${app.pagination.max-size:1000}")
+    private int maxPageSize;
+
+    @Value("${app.status-update.max-attempts:5}")
+    private int statusUpdateAttempts;
 
     /**
      * Submit a new application
      */
     public ApplicationResponseDTO submitApplication(ApplicationRequestDTO requestDTO) {
-        // Check if email already exists
-        if (applicationRepository.findByEmail(requestDTO.getEmail()).isPresent()) {
-            throw new RuntimeException("Email already registered with an application");
+        String email = Application.normalizeEmail(requestDTO.getEmail());
+        // Only look the email up when the filter says it may exist; the unique constraint stays the authority
+        if (emailBloomFilter.mightContain(email) && applicationRepository.findByEmail(email).isPresent()) {
+            throw new DuplicateEmailException(email);
         }
 
-        // Get course
-        Course course = courseRepository.findById(requestDTO.getCourseId())
+        // Resolve the course from the catalogue cache and reference it without loading it
+        CourseDTO course = courseCatalogCache.getById(requestDTO.getCourseId())
                 .orElseThrow(() -> new RuntimeException("Course not found with id: " + requestDTO.getCourseId()));
 
         // Create application
         Application application = Application.builder()
                 .applicantName(requestDTO.getApplicantName())
-                .email(requestDTO.getEmail())
+                .email(email)
                 .phoneNumber(requestDTO.getPhoneNumber())
                 .address(requestDTO.getAddress())
                 .additionalInformation(requestDTO.getAdditionalInformation())
-                .course(course)
+                .course(courseRepository.getReferenceById(course.getId()))
                 .status(ApplicationStatus.PENDING)
                 .build();
 
-        Application savedApplication = applicationRepository.save(application);
-        return modelMapper.map(savedApplication, ApplicationResponseDTO.class);
+        Application savedApplication;
+        try {
+            savedApplication = applicationRepository.saveAndFlush(application);
+        } catch (DataIntegrityViolationException e) {
+            if (isEmailConstraint(e)) {
+                throw new DuplicateEmailException(email);
+            }
+            throw e;
+        }
+        emailBloomFilter.add(savedApplication.getEmail());
+        applicationSearchIndex.indexAfterCommit(List.of(savedApplication));
+        applicationResultSnapshot.updateAfterCommit(List.of(savedApplication));
+        applicationEventBroadcaster.publishAfterCommit(List.of(ApplicationEventBroadcaster.submitted(savedApplication)));
+        applicationStatisticsService.recordTransition(course.getId(), null, ApplicationStatus.PENDING);
+        changeVersionService.recordChange(ChangeVersionService.Table.APPLICATIONS);
+        return applicationMapper.toResponse(savedApplication, course);
+    }
+
+    private boolean isEmailConstraint(DataIntegrityViolationException e) {
+        String constraint = e.getCause() instanceof ConstraintViolationException violation
+                ? violation.getConstraintName() : null;
+        return constraint != null && constraint.toLowerCase(Locale.ROOT).contains(EMAIL_CONSTRAINT);
     }
 
     /**
-     * Get all applications
+     * Get one keyset page of applications, optionally filtered by status and course
      */
-    public List<ApplicationResponseDTO> getAllApplications() {
-        return applicationRepository.findAll()
-                .stream()
-                .map(app -> modelMapper.map(app, ApplicationResponseDTO.class))
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ApplicationResponseDTO> getApplications(ApplicationSort sort, ApplicationStatus status,
+                                                                 Long courseId, String cursor, Integer size) {
+        int pageSize = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        ApplicationCursor position = cursor == null ? null : ApplicationCursor.decode(cursor, sort);
+        // Fetch one extra row to learn whether another page follows
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Application> applications = switch (sort) {
+            case ID -> applicationRepository.findPageOrderById(
+                    position == null ? 0L : position.id(), status, courseId, limit);
+            case CREATED_AT -> applicationRepository.findPageOrderByCreatedAt(
+                    position == null ? null : position.timestamp(), position == null ? null : position.id(),
+                    status, courseId, limit);
+            case STATUS_CHANGED_AT -> applicationRepository.findPageOrderByStatusChangedAtDesc(
+                    position == null ? null : position.timestamp(), position == null ? null : position.id(),
+                    status, courseId, limit);
+        };
+
+        boolean hasMore = applications.size() > pageSize;
+        List<Application> page = hasMore ? applications.subList(0, pageSize) : applications;
+        return CursorPageDTO.<ApplicationResponseDTO>builder()
+                .items(applicationMapper.toResponseList(page))
+                .nextCursor(hasMore ? ApplicationCursor.after(sort, page.get(page.size() - 1)).encode() : null)
+                .build();
+    }
+
+    /**
+     * Search applications by words of the applicant's name, email, phone number or additional information
+     * Results come from the in-process search index, best match first; the cursor is an offset into them
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ApplicationResponseDTO> searchApplications(String query, ApplicationStatus status,
+                                                                    Long courseId, String cursor, Integer size) {
+        int pageSize = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        int offset = cursor == null ? 0 : decodeSearchCursor(cursor);
+        ApplicationSearchIndex.SearchHits hits = applicationSearchIndex.search(query, status, courseId, offset, pageSize);
+
+        Map<Long, Application> found = hits.applicationIds().isEmpty() ? Map.of() :
+                applicationRepository.findAllWithCourseByIdIn(hits.applicationIds())
+                        .stream()
+                        .collect(Collectors.toMap(Application::getId, Function.identity()));
+        // Keep the ranking order; an application deleted since it was indexed is simply left out
+        List<Application> page = hits.applicationIds().stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return CursorPageDTO.<ApplicationResponseDTO>builder()
+                .items(applicationMapper.toResponseList(page))
+                .nextCursor(offset + pageSize < hits.total() ? encodeSearchCursor(offset + pageSize) : null)
+                .total(hits.total())
+                .build();
+    }
+
+    private static String encodeSearchCursor(int offset) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                ("search|" + offset).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int decodeSearchCursor(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!raw.startsWith("search|")) {
+                throw new IllegalArgumentException("not a search cursor");
+            }
+            return Math.max(0, Integer.parseInt(raw.substring("search|".length())));
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid cursor: " + token, e);
+        }
+    }
+
+    /**
+     * Look up an applicant's result by application id and email
+     * Served from the in-memory result snapshot, so it needs no transaction or query
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ApplicationResultDTO lookupResult(ResultLookupRequestDTO request) {
+        if (request.getApplicationId() == null || request.getEmail() == null) {
+            throw new ResultNotFoundException();
+        }
+        ApplicationResultSnapshot.Result result = applicationResultSnapshot
+                .lookup(request.getApplicationId(), request.getEmail())
+                .orElseThrow(ResultNotFoundException::new);
+        return ApplicationResultDTO.builder()
+                .applicationId(result.applicationId())
+                .status(result.status())
+                .courseId(result.courseId())
+                .courseName(courseCatalogCache.getById(result.courseId()).map(CourseDTO::getCourseName).orElse(null))
+                .rejectionReason(result.rejectionReason())
+                .statusChangedAt(result.statusChangedAt())
+                .build();
     }
 
     /**
      * Get application by ID
      */
+    @Transactional(readOnly = true)
     public ApplicationResponseDTO getApplicationById(Long applicationId) {
         Application application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new RuntimeException("Application not found with id: " + applicationId));
-        return modelMapper.map(application, ApplicationResponseDTO.class);
+        // The course comes from the catalogue cache; only its id is read from the lazy association
+        return applicationMapper.toResponse(application, getCourse(application.getCourse().getId()));
     }
 
     /**
-     * Get all pending applications
+     * Get pending applications, oldest first
      */
-    public List<ApplicationResponseDTO> getPendingApplications() {
-        return applicationRepository.findByStatusOrderByCreatedAtAsc(ApplicationStatus.PENDING)
-                .stream()
-                .map(app -> modelMapper.map(app, ApplicationResponseDTO.class))
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ApplicationResponseDTO> getPendingApplications(Long courseId, String cursor, Integer size) {
+        return getApplications(ApplicationSort.CREATED_AT, ApplicationStatus.PENDING, courseId, cursor, size);
     }
 
     /**
-     * Get all selected applications (students)
+     * Get selected applications (students), most recently selected first
      */
-    public List<ApplicationResponseDTO> getSelectedApplications() {
-        return applicationRepository.findAllSelectedApplications()
-                .stream()
-                .map(app -> modelMapper.map(app, ApplicationResponseDTO.class))
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ApplicationResponseDTO> getSelectedApplications(Long courseId, String cursor, Integer size) {
+        return getApplications(ApplicationSort.STATUS_CHANGED_AT, ApplicationStatus.SELECTED, courseId, cursor, size);
+    }
+
+    /**
+     * Write every matching application to {@code out} as a JSON array
+     * Rows are read from a forward-only stream and detached once written, so memory use does not grow with the table
+     */
+    @Transactional(readOnly = true)
+    public void streamApplications(ApplicationSort sort, ApplicationStatus status, Long courseId, OutputStream out)
+            throws IOException {
+        try (Stream<Application> applications = switch (sort) {
+            case ID -> applicationRepository.streamOrderById(status, courseId);
+            case CREATED_AT -> applicationRepository.streamOrderByCreatedAt(status, courseId);
+            case STATUS_CHANGED_AT -> applicationRepository.streamOrderByStatusChangedAtDesc(status, courseId);
+        }; JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartArray();
+            Map<Long, CourseDTO> courses = new HashMap<>();
+            int written = 0;
+            for (Iterator<Application> it = applications.iterator(); it.hasNext(); ) {
+                Application application = it.next();
+                generator.writeObject(applicationMapper.toResponse(application, courses));
+                entityManager.detach(application);
+                if (++written % 500 == 0) {
+                    generator.flush();
+                }
+            }
+            generator.writeEndArray();
+        }
     }
 
     /**
      * Update application status
-     * When status is SELECTED, create a Student record
+     * The change is written with a conditional update against the status it was decided on, so concurrent
+     * reviewers cannot both apply a transition; the loser re-reads and retries. Setting the status an
+     * application already has is a no-op. With an idempotency key, a repeated request replays the first response.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ApplicationResponseDTO updateApplicationStatus(Long applicationId, ApplicationStatusUpdateDTO updateDTO,
+                                                          String idempotencyKey) {
+        if (updateDTO.getStatus() == null) {
+            throw new RuntimeException("Status is required");
+        }
+        if (updateDTO.getStatus() == ApplicationStatus.REJECTED
+                && (updateDTO.getRejectionReason() == null || updateDTO.getRejectionReason().trim().isEmpty())) {
+            throw new RuntimeException("Rejection reason is required when rejecting an application");
+        }
+        String fingerprint = idempotencyKey == null ? null : idempotencyKeyService.fingerprint(
+                applicationId, updateDTO.getStatus(), updateDTO.getRejectionReason());
+
+        for (int attempt = 1; ; attempt++) {
+            if (idempotencyKey != null) {
+                Optional<ApplicationResponseDTO> replay = idempotencyKeyService.findResponse(idempotencyKey, fingerprint);
+                if (replay.isPresent()) {
+                    return replay.get();
+                }
+            }
+            try {
+                return transactionTemplate.execute(status ->
+                        applyStatusUpdate(applicationId, updateDTO, idempotencyKey, fingerprint));
+            } catch (ConcurrencyFailureException | IdempotencyKeyInUseException e) {
+                // Lost to a concurrent update of the application, or to a concurrent request with the same key:
+                // re-read and try again; any other constraint violation is a real failure and surfaces as it is
+                if (attempt == statusUpdateAttempts) {
+                    throw new ConcurrentStatusUpdateException(applicationId, e);
+                }
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(
+                        ThreadLocalRandom.current().nextLong(1, 10L * attempt + 1)));
+            }
+        }
+    }
+
     public ApplicationResponseDTO updateApplicationStatus(Long applicationId, ApplicationStatusUpdateDTO updateDTO) {
-        Application application = applicationRepository.findById(applicationId)
+        return updateApplicationStatus(applicationId, updateDTO, null);
+    }
+
+    private ApplicationResponseDTO applyStatusUpdate(Long applicationId, ApplicationStatusUpdateDTO updateDTO,
+                                                     String idempotencyKey, String fingerprint) {
+        if (idempotencyKey != null) {
+            idempotencyKeyService.claim(idempotencyKey, fingerprint);
+        }
+        Application application = applicationRepository.findWithCourseById(applicationId)
                 .orElseThrow(() -> new RuntimeException("Application not found with id: " + applicationId));
 
         ApplicationStatus previousStatus = application.getStatus();
-        application.setStatus(updateDTO.getStatus());
-        application.setStatusChangedAt(LocalDateTime.now());
-
-        // If status is REJECTED, set the rejection reason
-        if (updateDTO.getStatus() == ApplicationStatus.REJECTED) {
-            if (updateDTO.getRejectionReason() == null || updateDTO.getRejectionReason().trim().isEmpty()) {
-                throw new RuntimeException("Rejection reason is required when rejecting an application");
+        ApplicationStatus newStatus = updateDTO.getStatus();
+        if (previousStatus != newStatus) {
+            if (!previousStatus.canTransitionTo(newStatus)) {
+                throw new InvalidStatusTransitionException(applicationId, previousStatus, newStatus);
+            }
+            Long courseId = application.getCourse().getId();
+            if (newStatus == ApplicationStatus.SELECTED && !courseSeatService.mightHaveSeats(courseId)) {
+                throw new CourseFullException(courseId);
+            }
+            // A reason only describes a rejection; reopening or selecting clears it
+            String rejectionReason = newStatus == ApplicationStatus.REJECTED ? updateDTO.getRejectionReason() : null;
+            LocalDateTime now = LocalDateTime.now();
+            if (applicationRepository.updateStatusIfCurrent(applicationId, previousStatus, newStatus,
+                    rejectionReason, now) == 0) {
+                throw new OptimisticLockingFailureException("Application " + applicationId + " changed status concurrently");
             }
-            application.setRejectionReason(updateDTO.getRejectionReason());
-        }
 
-        Application updatedApplication = applicationRepository.save(application);
+            // The row was written directly; bring the loaded copy in line without letting it be flushed again
+            entityManager.detach(application);
+            application.setStatus(newStatus);
+            application.setStatusChangedAt(now);
+            application.setUpdatedAt(now);
+            application.setVersion(application.getVersion() + 1);
+            application.setRejectionReason(rejectionReason);
+            applicationSearchIndex.indexAfterCommit(List.of(application));
+            applicationResultSnapshot.updateAfterCommit(List.of(application));
+            applicationEventBroadcaster.publishAfterCommit(
+                    List.of(ApplicationEventBroadcaster.statusChanged(application, previousStatus)));
+            replicaLagMonitor.ifAvailable(ReplicaLagMonitor::recordWriteAfterCommit);
 
-        // If status changed to SELECTED, create a Student record
-        if (updateDTO.getStatus() == ApplicationStatus.SELECTED && previousStatus != ApplicationStatus.SELECTED) {
-            createStudentFromApplication(updatedApplication);
+            // Only one transition out of PENDING can succeed, so this runs once per application
+            if (newStatus == ApplicationStatus.SELECTED) {
+                createStudentFromApplication(application);
+            }
+            // Record the notification in the same transaction; the outbox relay delivers it after commit
+            notificationOutboxService.enqueue(application.getId(), emailService.buildStatusChangeNotification(application));
+            // Rows are locked in the order bulk updates use: application, course, status counters, change version.
+            // The seat is taken late, so the course row stays locked for as little of the transaction as possible
+            if (newStatus == ApplicationStatus.SELECTED && courseSeatService.reserve(courseId, 1) == 0) {
+                throw new CourseFullException(courseId);
+            }
+            applicationStatisticsService.recordTransition(courseId, previousStatus, newStatus);
+            changeVersionService.recordChange(ChangeVersionService.Table.APPLICATIONS);
         }
 
-        // Send email notification
-        try {
-            emailService.sendStatusChangeNotification(updatedApplication);
-        } catch (Exception e) {
-            // Log but don't fail the operation if email fails
-            System.err.println("Failed to send email notification: " + e.getMessage());
+        ApplicationResponseDTO response = applicationMapper.toResponse(application, getCourse(application.getCourse().getId()));
+        if (idempotencyKey != null) {
+            idempotencyKeyService.complete(idempotencyKey, response);
         }
-
-        return modelMapper.map(updatedApplication, ApplicationResponseDTO.class);
+        return response;
     }
 
     /**
      * Create a Student record from an accepted Application
      */
     private void createStudentFromApplication(Application application) {
-        // Check if student already exists
-        if (studentRepository.findByApplicationId(application.getId()).isPresent()) {
-            return;
-        }
-
         Student student = Student.builder()
                 .studentName(application.getApplicantName())
                 .email(application.getEmail())
                 .phoneNumber(application.getPhoneNumber())
                 .address(application.getAddress())
-                .course(application.getCourse())
+                .course(courseRepository.getReferenceById(application.getCourse().getId()))
                 .applicationId(application.getId())
                 .enrollmentStatus("ACTIVE")
                 .build();
@@ -164,36 +428,54 @@ public class ApplicationService {
     /**
      * Get all selected students
      */
-    public List<Student> getAllSelectedStudents() {
-        return studentRepository.findByEnrollmentStatus("ACTIVE");
+    @Transactional(readOnly = true)
+    public List<StudentDTO> getAllSelectedStudents() {
+        return studentMapper.toDTOList(studentRepository.findByEnrollmentStatus("ACTIVE"), this::getCourse);
     }
 
     /**
      * Get students by course
      */
-    public List<Student> getStudentsByCourse(Long courseId) {
-        return studentRepository.findByCourseId(courseId);
+    @Transactional(readOnly = true)
+    public List<StudentDTO> getStudentsByCourse(Long courseId) {
+        return studentMapper.toDTOList(studentRepository.findByCourseId(courseId), this::getCourse);
+    }
+
+    private CourseDTO getCourse(Long courseId) {
+        return courseCatalogCache.getById(courseId)
+                .orElseThrow(() -> new RuntimeException("Course not found with id: " + courseId));
     }
 
     /**
      * Count applications by status
      */
+    @Transactional(readOnly = true)
     public Long countApplicationsByStatus(ApplicationStatus status) {
-        return applicationRepository.countByStatus(status);
+        return applicationStatisticsService.countByStatus().get(status);
     }
 
     /**
-     * Get applications statistics
+     * Get applications statistics from the maintained counters
      */
+    @Transactional(readOnly = true)
     public ApplicationStatisticsDTO getApplicationStatistics() {
+        Map<ApplicationStatus, Long> counts = applicationStatisticsService.countByStatus();
         return ApplicationStatisticsDTO.builder()
-                .totalApplications(applicationRepository.count())
-                .pendingApplications(applicationRepository.countByStatus(ApplicationStatus.PENDING))
-                .selectedApplications(applicationRepository.countByStatus(ApplicationStatus.SELECTED))
-                .rejectedApplications(applicationRepository.countByStatus(ApplicationStatus.REJECTED))
+                .totalApplications(counts.values().stream().mapToLong(Long::longValue).sum())
+                .pendingApplications(counts.get(ApplicationStatus.PENDING))
+                .selectedApplications(counts.get(ApplicationStatus.SELECTED))
+                .rejectedApplications(counts.get(ApplicationStatus.REJECTED))
                 .build();
     }
 
+    /**
+     * Get applications statistics for every course
+     */
+    @Transactional(readOnly = true)
+    public List<CourseStatisticsDTO> getCourseStatistics() {
+        return applicationStatisticsService.getCourseStatistics();
+    }
+
     // DTO for statistics
     @lombok.Data
     @lombok.NoArgsConstructor
@@ -0,0 +1,216 @@
+package com.admission.service;
+
+import com.admission.dto.CourseDTO;
+import com.admission.dto.CourseStatisticsDTO;
+import com.admission.entity.Application.ApplicationStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Service class for application statistics
+ * Counts per course and status are kept in a counter table that is updated in the same transaction as the
+ * application change, so reading them costs a few hundred rows at most however many applications exist.
+ * A reconciliation job periodically re-counts the applications table and repairs any drift.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApplicationStatisticsService {
+
+    private static final String INCREMENT_SQL = "UPDATE application_status_counters " +
+            "SET application_count = application_count + ? WHERE course_id = ? AND status = ? AND slot = ?";
+
+    private static final String INSERT_SQL = "INSERT INTO application_status_counters " +
+            "(course_id, status, slot, application_count) VALUES (?, ?, ?, ?)";
+
+    private static final Comparator<CounterKey> LOCK_ORDER =
+            Comparator.comparing(CounterKey::courseId).thenComparing(CounterKey::status);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CourseCatalogCache courseCatalogCache;
+    private final ChangeVersionService changeVersionService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.statistics.stripes:8}")
+    private int stripes;
+
+    /**
+     * Record, as part of the caller's transaction, that an application of a course moved from
+     * {@code previousStatus} to {@code status}; a null previous status records a new application
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransition(Long courseId, ApplicationStatus previousStatus, ApplicationStatus status) {
+        if (previousStatus == status) {
+            return;
+        }
+        Map<CounterKey, Long> deltas = new HashMap<>();
+        deltas.put(new CounterKey(courseId, status), 1L);
+        if (previousStatus != null) {
+            deltas.put(new CounterKey(courseId, previousStatus), -1L);
+        }
+        applyDeltas(deltas);
+    }
+
+    /**
+     * Apply many counter changes as part of the caller's transaction
+     * Rows are always touched in the same order so concurrent writers cannot deadlock on them
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyDeltas(Map<CounterKey, Long> deltas) {
+        Map<CounterKey, Long> ordered = new TreeMap<>(LOCK_ORDER);
+        ordered.putAll(deltas);
+        ordered.forEach((key, delta) -> {
+            if (delta != 0) {
+                increment(key, delta);
+            }
+        });
+    }
+
+    /**
+     * Get the number of applications in each status
+     */
+    @Transactional(readOnly = true)
+    public Map<ApplicationStatus, Long> countByStatus() {
+        Map<ApplicationStatus, Long> counts = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            counts.put(status, 0L);
+        }
+        jdbcTemplate.query("SELECT status, SUM(application_count) FROM application_status_counters GROUP BY status",
+                rs -> {
+                    counts.put(ApplicationStatus.valueOf(rs.getString(1)), rs.getLong(2));
+                });
+        return counts;
+    }
+
+    /**
+     * Get the number of applications in each status for every course
+     */
+    @Transactional(readOnly = true)
+    public List<CourseStatisticsDTO> getCourseStatistics() {
+        Map<CounterKey, Long> counts = readCounters();
+        List<CourseStatisticsDTO> statistics = new ArrayList<>();
+        for (CourseDTO course : courseCatalogCache.getAll()) {
+            long pending = counts.getOrDefault(new CounterKey(course.getId(), ApplicationStatus.PENDING), 0L);
+            long selected = counts.getOrDefault(new CounterKey(course.getId(), ApplicationStatus.SELECTED), 0L);
+            long rejected = counts.getOrDefault(new CounterKey(course.getId(), ApplicationStatus.REJECTED), 0L);
+            statistics.add(CourseStatisticsDTO.builder()
+                    .courseId(course.getId())
+                    .courseName(course.getCourseName())
+                    .totalApplications(pending + selected + rejected)
+                    .pendingApplications(pending)
+                    .selectedApplications(selected)
+                    .rejectedApplications(rejected)
+                    .build());
+        }
+        return statistics;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(initialDelayString = "${app.statistics.reconcile-interval-ms:600000}",
+            fixedDelayString = "${app.statistics.reconcile-interval-ms:600000}")
+    public void reconcilePeriodically() {
+        reconcile();
+    }
+
+    /**
+     * Compare the counters with the applications table and repair every (course, status) pair that drifted
+     * Returns the number of repaired pairs
+     */
+    public int reconcile() {
+        Map<CounterKey, Long> actual = new HashMap<>();
+        jdbcTemplate.query("SELECT course_id, status, COUNT(*) FROM applications GROUP BY course_id, status",
+                rs -> {
+                    actual.put(new CounterKey(rs.getLong(1), ApplicationStatus.valueOf(rs.getString(2))), rs.getLong(3));
+                });
+        Map<CounterKey, Long> counted = readCounters();
+
+        Set<CounterKey> keys = new HashSet<>(actual.keySet());
+        keys.addAll(counted.keySet());
+        int repaired = 0;
+        for (CounterKey key : keys) {
+            if (!actual.getOrDefault(key, 0L).equals(counted.getOrDefault(key, 0L))) {
+                Long drift = transactionTemplate.execute(status -> repair(key));
+                if (drift != null && drift != 0) {
+                    log.warn("Repaired application counter for course {} status {} by {}",
+                            key.courseId(), key.status(), drift);
+                    repaired++;
+                }
+            }
+        }
+        return repaired;
+    }
+
+    /**
+     * Re-count one pair while holding its counter rows, so no writer can change them between the count and the fix
+     */
+    private long repair(CounterKey key) {
+        long counted = jdbcTemplate.queryForList("SELECT application_count FROM application_status_counters " +
+                        "WHERE course_id = ? AND status = ? FOR UPDATE", Long.class, key.courseId(), key.status().name())
+                .stream()
+                .mapToLong(Long::longValue)
+                .sum();
+        Long actual = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM applications WHERE course_id = ? AND status = ?",
+                Long.class, key.courseId(), key.status().name());
+        long drift = (actual == null ? 0 : actual) - counted;
+        if (drift != 0) {
+            increment(key, drift);
+            // The statistics responses change, so their ETags must too
+            changeVersionService.recordChange(ChangeVersionService.Table.APPLICATIONS);
+        }
+        return drift;
+    }
+
+    private Map<CounterKey, Long> readCounters() {
+        Map<CounterKey, Long> counts = new HashMap<>();
+        jdbcTemplate.query("SELECT course_id, status, SUM(application_count) FROM application_status_counters " +
+                "GROUP BY course_id, status", rs -> {
+            counts.put(new CounterKey(rs.getLong(1), ApplicationStatus.valueOf(rs.getString(2))), rs.getLong(3));
+        });
+        return counts;
+    }
+
+    /**
+     * Add {@code delta} to a randomly chosen slot of the pair, creating the slot on first use
+     */
+    private void increment(CounterKey key, long delta) {
+        int slot = ThreadLocalRandom.current().nextInt(stripes);
+        String status = key.status().name();
+        if (jdbcTemplate.update(INCREMENT_SQL, delta, key.courseId(), status, slot) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL, key.courseId(), status, slot, delta);
+        } catch (DuplicateKeyException e) {
+            // Another transaction created the slot first
+            jdbcTemplate.update(INCREMENT_SQL, delta, key.courseId(), status, slot);
+        }
+    }
+
+    public record CounterKey(Long courseId, ApplicationStatus status) {
+    }
+}
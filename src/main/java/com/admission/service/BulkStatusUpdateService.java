@@ -0,0 +1,344 @@
+package com.admission.service;
+
+import com.admission.datasource.ReplicaLagMonitor;
+import com.admission.dto.ApplicationEventDTO;
+import com.admission.dto.BulkStatusUpdateItemDTO;
+import com.admission.dto.BulkStatusUpdateResultDTO;
+import com.admission.dto.EmailNotificationDTO;
+import com.admission.entity.Application;
+import com.admission.entity.Application.ApplicationStatus;
+import com.admission.repository.ApplicationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for bulk application status updates
+ * Decisions are applied in chunks, each chunk in its own transaction, using one IN query to load
+ * the applications and JDBC batches for the application, student and outbox writes.
+ * Rows are locked in the same order as a single status update: applications, then the course rows seats are
+ * taken from (by ascending id), then the status counters and finally the change version, so the two paths
+ * cannot deadlock on each other.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkStatusUpdateService {
+
+    // Conditional on the status the decision was made against, so a concurrent change makes the row count 0
+    private static final String UPDATE_APPLICATION_SQL = "UPDATE applications SET status = ?, " +
+            "rejection_reason = ?, status_changed_at = ?, updated_at = ?, " +
+            "version = version + 1 WHERE id = ? AND status = ?";
+
+    // Puts back a row updated earlier in the same transaction, which still holds its lock
+    private static final String RESTORE_APPLICATION_SQL = "UPDATE applications SET status = ?, " +
+            "rejection_reason = ?, status_changed_at = ?, updated_at = ?, version = ? WHERE id = ?";
+
+    private static final String INSERT_STUDENT_SQL = "INSERT INTO students (student_name, email, phone_number, address, " +
+            "course_id, application_id, enrollment_status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final ApplicationRepository applicationRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EmailService emailService;
+    private final NotificationOutboxService notificationOutboxService;
+    private final ApplicationStatisticsService applicationStatisticsService;
+    private final CourseSeatService courseSeatService;
+    private final ApplicationSearchIndex applicationSearchIndex;
+    private final ApplicationResultSnapshot applicationResultSnapshot;
+    private final ChangeVersionService changeVersionService;
+    private final ApplicationEventBroadcaster applicationEventBroadcaster;
+    private final ObjectProvider<ReplicaLagMonitor> replicaLagMonitor;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * Apply a stream of status decisions, returning one result per item in input order
+     * A failing chunk is reported against its items and does not stop the remaining chunks
+     */
+    public List<BulkStatusUpdateResultDTO> updateStatuses(Iterator<BulkStatusUpdateItemDTO> items) {
+        List<BulkStatusUpdateResultDTO> results = new ArrayList<>();
+        List<BulkStatusUpdateItemDTO> chunk = new ArrayList<>(chunkSize);
+        while (items.hasNext()) {
+            chunk.add(items.next());
+            if (chunk.size() == chunkSize) {
+                results.addAll(processChunk(chunk));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(processChunk(chunk));
+        }
+        return results;
+    }
+
+    private List<BulkStatusUpdateResultDTO> processChunk(List<BulkStatusUpdateItemDTO> chunk) {
+        try {
+            return transactionTemplate.execute(status -> applyChunk(chunk));
+        } catch (RuntimeException e) {
+            log.error("Bulk status update chunk of {} item(s) failed", chunk.size(), e);
+            return chunk.stream()
+                    .map(item -> failure(item, "Batch failed: " + e.getMessage()))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private List<BulkStatusUpdateResultDTO> applyChunk(List<BulkStatusUpdateItemDTO> chunk) {
+        BulkStatusUpdateResultDTO[] results = new BulkStatusUpdateResultDTO[chunk.size()];
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            String error = validate(chunk.get(i), ids);
+            if (error != null) {
+                results[i] = failure(chunk.get(i), error);
+            }
+        }
+
+        Map<Long, Application> applications = ids.isEmpty() ? Map.of() :
+                applicationRepository.findAllWithCourseByIdIn(ids)
+                        .stream()
+                        .collect(Collectors.toMap(Application::getId, Function.identity()));
+
+        // At the precision of the DATETIME(6) columns, so the rows this chunk writes can be found by it
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<Object[]> applicationUpdates = new ArrayList<>();
+        List<Transition> transitions = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            BulkStatusUpdateItemDTO item = chunk.get(i);
+            Application application = applications.get(item.getApplicationId());
+            if (application == null) {
+                results[i] = failure(item, "Application not found with id: " + item.getApplicationId());
+                continue;
+            }
+
+            ApplicationStatus previousStatus = application.getStatus();
+            if (previousStatus == item.getStatus()) {
+                // Already in the requested status: nothing to write or notify
+                results[i] = success(application.getId(), item.getStatus());
+                continue;
+            }
+            if (!previousStatus.canTransitionTo(item.getStatus())) {
+                results[i] = failure(item, "Cannot move from " + previousStatus + " to " + item.getStatus());
+                continue;
+            }
+            String rejectionReason = item.getStatus() == ApplicationStatus.REJECTED ? item.getRejectionReason() : null;
+            transitions.add(new Transition(i, application, previousStatus, rejectionReason));
+        }
+
+        for (Transition transition : transitions) {
+            applicationUpdates.add(new Object[]{chunk.get(transition.index()).getStatus().name(),
+                    transition.rejectionReason(), now, now, transition.application().getId(),
+                    transition.previousStatus().name()});
+        }
+        int[] updated = applicationUpdates.isEmpty() ? new int[0]
+                : jdbcTemplate.getJdbcOperations().batchUpdate(UPDATE_APPLICATION_SQL, applicationUpdates);
+
+        List<Application> newlySelected = new ArrayList<>();
+        List<Application> changed = new ArrayList<>();
+        List<ApplicationEventDTO> events = new ArrayList<>();
+        Map<Long, EmailNotificationDTO> notifications = new LinkedHashMap<>();
+        Map<ApplicationStatisticsService.CounterKey, Long> counterDeltas = new HashMap<>();
+        List<Transition> applied = new ArrayList<>(transitions.size());
+        // Drivers that rewrite batches report SUCCESS_NO_INFO (-2) rather than a row count; those rows are re-read
+        Set<Long> confirmed = Arrays.stream(updated).anyMatch(count -> count == Statement.SUCCESS_NO_INFO)
+                ? confirmUpdated(chunk, transitions, now) : Set.of();
+        for (int t = 0; t < transitions.size(); t++) {
+            Transition transition = transitions.get(t);
+            boolean rowUpdated = updated[t] > 0 || (updated[t] == Statement.SUCCESS_NO_INFO
+                    && confirmed.contains(transition.application().getId()));
+            if (!rowUpdated) {
+                results[transition.index()] = failure(chunk.get(transition.index()),
+                        "Application status was changed concurrently");
+            } else {
+                applied.add(transition);
+            }
+        }
+
+        for (Transition transition : reserveSeats(chunk, applied, results)) {
+            BulkStatusUpdateItemDTO item = chunk.get(transition.index());
+            // The loaded entities are read-only, so these changes only feed the notifications below
+            Application application = transition.application();
+            application.setStatus(item.getStatus());
+            application.setStatusChangedAt(now);
+            application.setVersion(application.getVersion() + 1);
+            application.setRejectionReason(transition.rejectionReason());
+            changed.add(application);
+            events.add(ApplicationEventBroadcaster.statusChanged(application, transition.previousStatus()));
+
+            Long courseId = application.getCourse().getId();
+            counterDeltas.merge(new ApplicationStatisticsService.CounterKey(courseId, transition.previousStatus()),
+                    -1L, Long::sum);
+            counterDeltas.merge(new ApplicationStatisticsService.CounterKey(courseId, item.getStatus()), 1L, Long::sum);
+            if (item.getStatus() == ApplicationStatus.SELECTED) {
+                newlySelected.add(application);
+            }
+            notifications.put(application.getId(), emailService.buildStatusChangeNotification(application));
+            results[transition.index()] = success(application.getId(), item.getStatus());
+        }
+
+        applicationStatisticsService.applyDeltas(counterDeltas);
+        createStudents(newlySelected, now);
+        applicationSearchIndex.indexAfterCommit(changed);
+        applicationResultSnapshot.updateAfterCommit(changed);
+        applicationEventBroadcaster.publishAfterCommit(events);
+        if (!changed.isEmpty()) {
+            replicaLagMonitor.ifAvailable(ReplicaLagMonitor::recordWriteAfterCommit);
+        }
+        notificationOutboxService.enqueueAll(notifications);
+        if (!changed.isEmpty()) {
+            changeVersionService.recordChange(ChangeVersionService.Table.APPLICATIONS);
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * The ids of the transitions whose row now holds this chunk's update: the requested status, the loaded
+     * version plus one and this chunk's change time, which a concurrent change to the same status would not have
+     */
+    private Set<Long> confirmUpdated(List<BulkStatusUpdateItemDTO> chunk, List<Transition> transitions,
+                                     LocalDateTime now) {
+        Map<Long, Transition> byId = transitions.stream()
+                .collect(Collectors.toMap(transition -> transition.application().getId(), Function.identity()));
+        Set<Long> confirmed = new HashSet<>();
+        jdbcTemplate.query("SELECT id, status, version FROM applications WHERE id IN (:ids) AND status_changed_at = :now",
+                Map.of("ids", byId.keySet(), "now", now),
+                rs -> {
+                    Transition transition = byId.get(rs.getLong(1));
+                    if (chunk.get(transition.index()).getStatus().name().equals(rs.getString(2))
+                            && rs.getLong(3) == transition.application().getVersion() + 1) {
+                        confirmed.add(transition.application().getId());
+                    }
+                });
+        return confirmed;
+    }
+
+    /**
+     * Reserve seats for the applied selections, one reservation per course, after their application rows are
+     * updated; selections beyond a course's capacity have their rows put back, are reported as failed and are
+     * dropped from the returned transitions
+     */
+    private List<Transition> reserveSeats(List<BulkStatusUpdateItemDTO> chunk, List<Transition> transitions,
+                                          BulkStatusUpdateResultDTO[] results) {
+        // Ordered by course id, so chunks reserving in several courses lock them in the same order
+        Map<Long, Integer> wanted = new TreeMap<>();
+        for (Transition transition : transitions) {
+            if (chunk.get(transition.index()).getStatus() == ApplicationStatus.SELECTED) {
+                wanted.merge(transition.application().getCourse().getId(), 1, Integer::sum);
+            }
+        }
+        if (wanted.isEmpty()) {
+            return transitions;
+        }
+        Map<Long, Integer> granted = new HashMap<>();
+        wanted.forEach((courseId, seats) -> granted.put(courseId, courseSeatService.reserve(courseId, seats)));
+
+        List<Transition> admitted = new ArrayList<>(transitions.size());
+        List<Object[]> restores = new ArrayList<>();
+        for (Transition transition : transitions) {
+            BulkStatusUpdateItemDTO item = chunk.get(transition.index());
+            Application application = transition.application();
+            Long courseId = application.getCourse().getId();
+            if (item.getStatus() == ApplicationStatus.SELECTED && granted.merge(courseId, -1, Integer::sum) < 0) {
+                // The loaded entity still holds the row as it was before this chunk's update
+                restores.add(new Object[]{transition.previousStatus().name(), application.getRejectionReason(),
+                        application.getStatusChangedAt(), application.getUpdatedAt(), application.getVersion(),
+                        application.getId()});
+                results[transition.index()] = failure(item, "No seats left in course with id: " + courseId);
+                continue;
+            }
+            admitted.add(transition);
+        }
+        if (!restores.isEmpty()) {
+            jdbcTemplate.getJdbcOperations().batchUpdate(RESTORE_APPLICATION_SQL, restores);
+        }
+        return admitted;
+    }
+
+    /**
+     * Insert Student records for newly selected applications that do not have one yet
+     */
+    private void createStudents(List<Application> selected, LocalDateTime now) {
+        if (selected.isEmpty()) {
+            return;
+        }
+        Set<Long> existing = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT application_id FROM students WHERE application_id IN (:ids)",
+                Map.of("ids", selected.stream().map(Application::getId).collect(Collectors.toList())),
+                Long.class));
+
+        List<Object[]> students = new ArrayList<>();
+        for (Application application : selected) {
+            if (existing.contains(application.getId())) {
+                continue;
+            }
+            students.add(new Object[]{
+                    application.getApplicantName(), application.getEmail(), application.getPhoneNumber(),
+                    application.getAddress(), application.getCourse().getId(), application.getId(), "ACTIVE", now, now
+            });
+        }
+        if (!students.isEmpty()) {
+            jdbcTemplate.getJdbcOperations().batchUpdate(INSERT_STUDENT_SQL, students);
+        }
+    }
+
+    private String validate(BulkStatusUpdateItemDTO item, Set<Long> ids) {
+        if (item.getApplicationId() == null) {
+            return "Application id is required";
+        }
+        if (item.getStatus() == null) {
+            return "Status is required";
+        }
+        if (item.getStatus() == ApplicationStatus.REJECTED
+                && (item.getRejectionReason() == null || item.getRejectionReason().trim().isEmpty())) {
+            return "Rejection reason is required when rejecting an application";
+        }
+        if (!ids.add(item.getApplicationId())) {
+            return "Duplicate application id in the same batch";
+        }
+        return null;
+    }
+
+    private BulkStatusUpdateResultDTO success(Long applicationId, ApplicationStatus status) {
+        return BulkStatusUpdateResultDTO.builder()
+                .applicationId(applicationId)
+                .success(true)
+                .status(status)
+                .build();
+    }
+
+    private BulkStatusUpdateResultDTO failure(BulkStatusUpdateItemDTO item, String error) {
+        return BulkStatusUpdateResultDTO.builder()
+                .applicationId(item.getApplicationId())
+                .success(false)
+                .status(item.getStatus())
+                .error(error)
+                .build();
+    }
+
+    private record Transition(int index, Application application, ApplicationStatus previousStatus,
+                              String rejectionReason) {
+    }
+}
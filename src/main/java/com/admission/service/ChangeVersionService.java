@@ -0,0 +1,93 @@
+package com.admission.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Per-table change versions behind the ETags of listing responses
+ * Every write transaction bumps a random stripe of the table's counter, so concurrent writers rarely wait
+ * on each other; the version is the sum of the stripes and grows with every commit, unlike a max(updated_at)
+ * that a transaction committing late with an older timestamp would not move.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChangeVersionService {
+
+    // Must match the rows seeded by V7__change_versions.sql
+    private static final int STRIPES = 8;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    public enum Table {
+        APPLICATIONS, COURSES;
+
+        String tableName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Record a change to the table in the caller's transaction
+     * Best called late in the transaction, so the stripe's row lock is held briefly
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChange(Table table) {
+        jdbcTemplate.update("UPDATE change_versions SET version = version + 1 WHERE table_name = ? AND stripe = ?",
+                table.tableName(), ThreadLocalRandom.current().nextInt(STRIPES));
+    }
+
+    /**
+     * Current version of the table, read in the caller's transaction
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long currentVersion(Table table) {
+        Long version = jdbcTemplate.queryForObject("SELECT SUM(version) FROM change_versions WHERE table_name = ?",
+                Long.class, table.tableName());
+        return version == null ? 0 : version;
+    }
+
+    /**
+     * Read the tables' versions and, unless {@code notModified} accepts the resulting ETag, the body
+     * Both are read in one read-only transaction, so they come from the same database even with replicas
+     * and the body is never older than its ETag. Returns null when the client's copy is current.
+     */
+    public <T> Versioned<T> readIfModified(Predicate<String> notModified, Supplier<T> reader, Table... tables) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> {
+            String etag = etag(tables);
+            return notModified.test(etag) ? null : new Versioned<>(etag, reader.get());
+        });
+    }
+
+    private String etag(Table... tables) {
+        Map<Table, Long> versions = new EnumMap<>(Table.class);
+        jdbcTemplate.query("SELECT table_name, SUM(version) FROM change_versions GROUP BY table_name", rs -> {
+            versions.put(Table.valueOf(rs.getString(1).toUpperCase(Locale.ROOT)), rs.getLong(2));
+        });
+        StringBuilder etag = new StringBuilder("\"");
+        for (Table table : tables) {
+            if (etag.length() > 1) {
+                etag.append('-');
+            }
+            etag.append(table.name().charAt(0)).append(versions.getOrDefault(table, 0L));
+        }
+        return etag.append('"').toString();
+    }
+
+    public record Versioned<T>(String etag, T body) {
+    }
+}
@@ -0,0 +1,124 @@
+package com.admission.service;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact column-oriented binary format, written in row groups so memory stays bounded
+ * Layout: "ADMCOL" + version byte, column count, then name and type ordinal per column; then row groups,
+ * each a varint row count followed by every column in order as a null bitmap and its non-null values.
+ * LONG and TIMESTAMP (UTC epoch millis) values are zigzag varint deltas from the previous value in the group,
+ * STRING values are a varint byte length and UTF-8 bytes. A row count of 0 ends the file.
+ */
+class ColumnarExportWriter implements ExportWriter {
+
+    static final byte[] MAGIC = {'A', 'D', 'M', 'C', 'O', 'L'};
+    static final int VERSION = 1;
+    static final int ROW_GROUP_SIZE = 8192;
+
+    private final DataOutputStream out;
+    private final List<Column> columns;
+    private final ColumnBuffer[] buffers;
+    private int rows;
+
+    ColumnarExportWriter(OutputStream out, List<Column> columns) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(out, 64 * 1024));
+        this.columns = columns;
+        this.buffers = new ColumnBuffer[columns.size()];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = new ColumnBuffer();
+        }
+        this.out.write(MAGIC);
+        this.out.writeByte(VERSION);
+        writeVarint(this.out, columns.size());
+        for (Column column : columns) {
+            byte[] name = column.name().getBytes(StandardCharsets.UTF_8);
+            writeVarint(this.out, name.length);
+            this.out.write(name);
+            this.out.writeByte(column.type().ordinal());
+        }
+    }
+
+    @Override
+    public void writeRow(Object[] values) throws IOException {
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i].append(rows, columns.get(i).type(), values[i]);
+        }
+        if (++rows == ROW_GROUP_SIZE) {
+            writeRowGroup();
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (rows > 0) {
+            writeRowGroup();
+        }
+        writeVarint(out, 0);
+        out.flush();
+    }
+
+    private void writeRowGroup() throws IOException {
+        writeVarint(out, rows);
+        for (ColumnBuffer buffer : buffers) {
+            out.write(buffer.nulls, 0, (rows + 7) / 8);
+            buffer.values.writeTo(out);
+            buffer.reset();
+        }
+        rows = 0;
+    }
+
+    private static void writeVarint(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    /**
+     * Values of one column for the current row group
+     */
+    private static final class ColumnBuffer {
+
+        private final byte[] nulls = new byte[ROW_GROUP_SIZE / 8];
+        private final ByteArrayOutputStream values = new ByteArrayOutputStream(16 * 1024);
+        private long previous;
+
+        void append(int row, ColumnType type, Object value) throws IOException {
+            if (value == null) {
+                nulls[row >>> 3] |= (byte) (1 << (row & 7));
+                return;
+            }
+            switch (type) {
+                case LONG -> writeDelta(((Number) value).longValue());
+                case TIMESTAMP -> writeDelta(((LocalDateTime) value).toInstant(ZoneOffset.UTC).toEpochMilli());
+                case STRING -> {
+                    byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+                    writeVarint(values, bytes.length);
+                    values.write(bytes);
+                }
+            }
+        }
+
+        private void writeDelta(long value) throws IOException {
+            long delta = value - previous;
+            previous = value;
+            writeVarint(values, (delta << 1) ^ (delta >> 63));
+        }
+
+        void reset() {
+            Arrays.fill(nulls, (byte) 0);
+            values.reset();
+            previous = 0;
+        }
+    }
+}
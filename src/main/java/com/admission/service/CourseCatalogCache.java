@@ -0,0 +1,222 @@
+package com.admission.service;
+
+import com.admission.dto.CacheStatsDTO;
+import com.admission.dto.CourseDTO;
+import com.admission.entity.Course;
+import com.admission.mapper.CourseMapper;
+import com.admission.repository.CourseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Read-through cache of the whole course catalogue
+ * The catalogue is loaded once into an immutable snapshot with precomputed active and per-level lists,
+ * and dropped after any course change commits. Returned DTOs are shared and must not be modified.
+ * Each snapshot remembers the course change version it was loaded at, which serves as the catalogue's ETag.
+ * Changes committed by other instances are noticed by polling that version, which bounds their staleness to
+ * the check interval.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CourseCatalogCache {
+
+    private final CourseRepository courseRepository;
+    private final CourseMapper courseMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final ChangeVersionService changeVersionService;
+
+    @Value("${app.course-cache.max-entries:10000}")
+    private int maxEntries;
+
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    public List<CourseDTO> getAll() {
+        Snapshot current = current();
+        return current == null ? mapAll(courseRepository.findAll()) : current.all();
+    }
+
+    public List<CourseDTO> getActive() {
+        Snapshot current = current();
+        return current == null ? mapAll(courseRepository.findByActive(true)) : current.active();
+    }
+
+    public List<CourseDTO> getByLevel(String level) {
+        Snapshot current = current();
+        return current == null ? mapAll(courseRepository.findByLevel(level))
+                : current.byLevel().getOrDefault(level, Collections.emptyList());
+    }
+
+    public Optional<CourseDTO> getById(Long courseId) {
+        Snapshot current = current();
+        return current == null ? courseRepository.findById(courseId).map(courseMapper::toDTO)
+                : Optional.ofNullable(current.byId().get(courseId));
+    }
+
+    /**
+     * Course change version of the cached catalogue; empty when the catalogue is too large to cache
+     */
+    public OptionalLong getVersion() {
+        Snapshot current = current();
+        return current == null ? OptionalLong.empty() : OptionalLong.of(current.version());
+    }
+
+    /**
+     * Drop the snapshot once the current transaction commits, or immediately outside a transaction
+     */
+    public void invalidateAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate();
+            }
+        });
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    /**
+     * Drop the snapshot when the course change version has moved since it was loaded, e.g. by another instance
+     */
+    @Scheduled(initialDelayString = "${app.course-cache.version-check-interval-ms:5000}",
+            fixedDelayString = "${app.course-cache.version-check-interval-ms:5000}")
+    public void checkVersion() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        Long version = readOnly().execute(status ->
+                changeVersionService.currentVersion(ChangeVersionService.Table.COURSES));
+        if (version != null && version != current.version() && snapshot == current) {
+            log.debug("Course change version moved from {} to {}; dropping the catalogue snapshot",
+                    current.version(), version);
+            invalidate();
+        }
+    }
+
+    public CacheStatsDTO getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        Snapshot current = snapshot;
+        return CacheStatsDTO.builder()
+                .hits(hitCount)
+                .misses(missCount)
+                .hitRate(hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount))
+                .size(current == null ? 0 : current.byId().size())
+                .loadedAt(current == null ? null : current.loadedAt())
+                .build();
+    }
+
+    /**
+     * Current snapshot, loading it on a miss; null when the catalogue is too large to cache
+     */
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            hits.increment();
+            return current;
+        }
+        misses.increment();
+        return load();
+    }
+
+    private Snapshot load() {
+        // A lock rather than synchronized: a virtual thread blocked on JDBC inside a monitor pins its carrier
+        loadLock.lock();
+        try {
+            return loadLocked();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private Snapshot loadLocked() {
+        if (snapshot != null) {
+            return snapshot;
+        }
+        long loadedGeneration = generation.get();
+        // The version is read in the same transaction as the courses, so it describes exactly this snapshot
+        long[] version = new long[1];
+        List<Course> courses = readOnly().execute(status -> {
+            version[0] = changeVersionService.currentVersion(ChangeVersionService.Table.COURSES);
+            return courseRepository.findAll();
+        });
+        if (courses.size() > maxEntries) {
+            log.warn("Course catalogue has {} courses, more than the cache limit of {}; reading from the database",
+                    courses.size(), maxEntries);
+            return null;
+        }
+
+        Snapshot loaded = Snapshot.of(mapAll(courses), version[0]);
+        // A change that committed while loading makes this snapshot stale; serve it once but do not keep it
+        if (generation.get() == loadedGeneration) {
+            snapshot = loaded;
+        }
+        return loaded;
+    }
+
+    private TransactionTemplate readOnly() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly;
+    }
+
+    private List<CourseDTO> mapAll(List<Course> courses) {
+        List<CourseDTO> dtos = new ArrayList<>(courses.size());
+        for (Course course : courses) {
+            dtos.add(courseMapper.toDTO(course));
+        }
+        return dtos;
+    }
+
+    private record Snapshot(Map<Long, CourseDTO> byId, List<CourseDTO> all, List<CourseDTO> active,
+                            Map<String, List<CourseDTO>> byLevel, long version, LocalDateTime loadedAt) {
+
+        static Snapshot of(List<CourseDTO> courses, long version) {
+            Map<Long, CourseDTO> byId = new HashMap<>();
+            List<CourseDTO> active = new ArrayList<>();
+            Map<String, List<CourseDTO>> byLevel = new HashMap<>();
+            for (CourseDTO course : courses) {
+                byId.put(course.getId(), course);
+                if (Boolean.TRUE.equals(course.getActive())) {
+                    active.add(course);
+                }
+                byLevel.computeIfAbsent(course.getLevel(), level -> new ArrayList<>()).add(course);
+            }
+            Map<String, List<CourseDTO>> immutableByLevel = new HashMap<>();
+            byLevel.forEach((level, list) -> immutableByLevel.put(level, List.copyOf(list)));
+            return new Snapshot(Map.copyOf(byId), List.copyOf(courses), List.copyOf(active),
+                    Map.copyOf(immutableByLevel), version, LocalDateTime.now());
+        }
+    }
+}
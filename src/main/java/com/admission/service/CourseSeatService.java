@@ -0,0 +1,195 @@
+package com.admission.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Seat reservations against course capacity
+ * Every course has its own in-memory counter of free seats, so a full course is refused with a
+ * compare-and-set and no database write, and courses never contend with each other. Granted seats are
+ * confirmed with a conditional increment of courses.seats_taken, which stays the authority when several
+ * instances share the database; counters are reloaded from it periodically and whenever it disagrees.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CourseSeatService {
+
+    private static final int MAX_CONFIRM_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.seats.refresh-interval-ms:5000}")
+    private long refreshIntervalMs;
+
+    private final ConcurrentHashMap<Long, SeatCounter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Whether the course may still have a free seat; a cheap check before doing the work of a selection
+     */
+    public boolean mightHaveSeats(Long courseId) {
+        SeatCounter counter = counter(courseId);
+        return counter.capacity == null || counter.available.get() > 0 || counter.isStale(refreshIntervalMs);
+    }
+
+    /**
+     * Seats still free in the course, or null when its capacity is unlimited
+     */
+    public Integer remaining(Long courseId) {
+        SeatCounter counter = counter(courseId);
+        if (counter.isStale(refreshIntervalMs)) {
+            counter = reload(courseId);
+        }
+        return counter.capacity == null ? null : Math.max(0, counter.available.get());
+    }
+
+    /**
+     * Reserve up to {@code seats} seats in the current transaction, returning how many were granted
+     * The seats are given back if the transaction rolls back
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int reserve(Long courseId, int seats) {
+        SeatCounter counter = counter(courseId);
+        int granted = counter.tryAcquire(seats);
+        if (granted < seats && counter.isStale(refreshIntervalMs)) {
+            // The capacity may have been raised elsewhere since the counter was loaded
+            counter = reload(courseId);
+            granted += counter.tryAcquire(seats - granted);
+        }
+        if (granted == 0) {
+            return 0;
+        }
+
+        int confirmed = confirm(courseId, granted);
+        if (confirmed < granted) {
+            // Seats were taken through another instance; the counter was optimistic, so rebuild it
+            log.debug("Course {} had {} of {} reserved seat(s) left in the database", courseId, confirmed, granted);
+            reload(courseId);
+        }
+        if (confirmed > 0) {
+            onRollback(courseId, confirmed);
+        }
+        return confirmed;
+    }
+
+    /**
+     * Reload the course's counter once the current transaction commits, e.g. after a capacity change
+     */
+    public void invalidateAfterCommit(Long courseId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            counters.remove(courseId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                counters.remove(courseId);
+            }
+        });
+    }
+
+    /**
+     * Take up to {@code seats} seats in the database, never passing the capacity; returns how many were taken
+     */
+    private int confirm(Long courseId, int seats) {
+        int wanted = seats;
+        for (int attempt = 0; attempt < MAX_CONFIRM_ATTEMPTS && wanted > 0; attempt++) {
+            int updated = jdbcTemplate.update("UPDATE courses SET seats_taken = seats_taken + ? " +
+                    "WHERE id = ? AND (capacity IS NULL OR seats_taken + ? <= capacity)", wanted, courseId, wanted);
+            if (updated > 0) {
+                return wanted;
+            }
+            // Fewer seats are left than asked for: settle for what the database says is free
+            List<Integer> free = jdbcTemplate.queryForList(
+                    "SELECT capacity - seats_taken FROM courses WHERE id = ?", Integer.class, courseId);
+            wanted = free.isEmpty() || free.get(0) == null ? 0 : Math.min(wanted, free.get(0));
+        }
+        return 0;
+    }
+
+    private void onRollback(Long courseId, int seats) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    SeatCounter counter = counters.get(courseId);
+                    if (counter != null) {
+                        counter.release(seats);
+                    }
+                }
+            }
+        });
+    }
+
+    private SeatCounter counter(Long courseId) {
+        SeatCounter counter = counters.get(courseId);
+        return counter != null ? counter : reload(courseId);
+    }
+
+    private SeatCounter reload(Long courseId) {
+        List<SeatCounter> loaded = jdbcTemplate.query("SELECT capacity, seats_taken FROM courses WHERE id = ?",
+                (rs, rowNum) -> {
+                    int capacity = rs.getInt(1);
+                    return rs.wasNull() ? new SeatCounter(null, 0)
+                            : new SeatCounter(capacity, capacity - rs.getInt(2));
+                }, courseId);
+        if (loaded.isEmpty()) {
+            throw new RuntimeException("Course not found with id: " + courseId);
+        }
+        counters.put(courseId, loaded.get(0));
+        return loaded.get(0);
+    }
+
+    /**
+     * Free seats of one course as last loaded, adjusted by this instance's reservations since
+     */
+    private static final class SeatCounter {
+
+        private final Integer capacity;
+        private final AtomicInteger available;
+        private final long loadedAt = System.nanoTime();
+
+        SeatCounter(Integer capacity, int available) {
+            this.capacity = capacity;
+            this.available = new AtomicInteger(available);
+        }
+
+        int tryAcquire(int seats) {
+            if (capacity == null) {
+                return seats;
+            }
+            while (true) {
+                int free = available.get();
+                if (free <= 0) {
+                    return 0;
+                }
+                int granted = Math.min(free, seats);
+                if (available.compareAndSet(free, free - granted)) {
+                    return granted;
+                }
+            }
+        }
+
+        void release(int seats) {
+            if (capacity != null) {
+                available.addAndGet(seats);
+            }
+        }
+
+        boolean isStale(long refreshIntervalMs) {
+            return System.nanoTime() - loadedAt > TimeUnit.MILLISECONDS.toNanos(refreshIntervalMs);
+        }
+    }
+}
@@ -1,70 +1,127 @@
 package com.admission.service;
 
+import com.admission.datasource.ReplicaLagMonitor;
+import com.admission.dto.CacheStatsDTO;
 import com.admission.dto.CourseDTO;
 import com.admission.entity.Course;
+import com.admission.exception.CourseInUseException;
+import com.admission.mapper.CourseMapper;
+import com.admission.repository.ApplicationRepository;
 import com.admission.repository.CourseRepository;
+import com.admission.service.ChangeVersionService.Versioned;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.OptionalLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Service class for Course management
  * Handles business logic for course operations
  */
 @Service
+@Timed("admission.service")
 @RequiredArgsConstructor
 @Transactional
 public class CourseService {
 
     private final CourseRepository courseRepository;
-    private final ModelMapper modelMapper;
+    private final ApplicationRepository applicationRepository;
+    private final CourseMapper courseMapper;
+    private final CourseCatalogCache courseCatalogCache;
+    private final CourseSeatService courseSeatService;
+    private final ChangeVersionService changeVersionService;
+    private final ObjectProvider<ReplicaLagMonitor> replicaLagMonitor;
 
     /**
      * Get all active courses
+     * Catalogue reads are served from the cache without opening a transaction
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<CourseDTO> getAllActiveCourses() {
-        return courseRepository.findByActive(true)
-                .stream()
-                .map(course -> modelMapper.map(course, CourseDTO.class))
-                .collect(Collectors.toList());
+        return courseCatalogCache.getActive();
     }
 
     /**
      * Get all courses
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<CourseDTO> getAllCourses() {
-        return courseRepository.findAll()
-                .stream()
-                .map(course -> modelMapper.map(course, CourseDTO.class))
-                .collect(Collectors.toList());
+        return courseCatalogCache.getAll();
     }
 
     /**
-     * Get course by ID
+     * Get course by ID, with its remaining seats
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CourseDTO getCourseById(Long courseId) {
-        Course course = courseRepository.findById(courseId)
+        CourseDTO course = courseCatalogCache.getById(courseId)
+                .orElseThrow(() -> new RuntimeException("Course not found with id: " + courseId));
+        // Cached DTOs are shared, so the live seat count goes on a copy
+        return course.toBuilder().seatsRemaining(courseSeatService.remaining(courseId)).build();
+    }
+
+    /**
+     * Read a catalogue listing unless the client's copy, identified by its ETag, is still current
+     * The ETag is the version the cached catalogue was loaded at, so an unchanged catalogue is
+     * confirmed without touching the database
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public <T> Versioned<T> readCatalogueIfModified(Predicate<String> notModified, Supplier<T> reader) {
+        OptionalLong version = courseCatalogCache.getVersion();
+        if (version.isEmpty()) {
+            return changeVersionService.readIfModified(notModified, reader, ChangeVersionService.Table.COURSES);
+        }
+        String etag = "\"C" + version.getAsLong() + "\"";
+        return notModified.test(etag) ? null : new Versioned<>(etag, reader.get());
+    }
+
+    /**
+     * Get course by ID unless the client's copy is still current; its ETag also covers the remaining seats
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Versioned<CourseDTO> getCourseByIdIfModified(Long courseId, Predicate<String> notModified) {
+        OptionalLong version = courseCatalogCache.getVersion();
+        if (version.isEmpty()) {
+            return changeVersionService.readIfModified(notModified, () -> getCourseById(courseId),
+                    ChangeVersionService.Table.COURSES, ChangeVersionService.Table.APPLICATIONS);
+        }
+        CourseDTO course = courseCatalogCache.getById(courseId)
                 .orElseThrow(() -> new RuntimeException("Course not found with id: " + courseId));
-        return modelMapper.map(course, CourseDTO.class);
+        Integer remaining = courseSeatService.remaining(courseId);
+        String etag = "\"C" + version.getAsLong() + "-S" + (remaining == null ? "u" : remaining) + "\"";
+        return notModified.test(etag) ? null
+                : new Versioned<>(etag, course.toBuilder().seatsRemaining(remaining).build());
     }
 
     /**
      * Create a new course
      */
     public CourseDTO createCourse(CourseDTO courseDTO) {
-        Course course = modelMapper.map(courseDTO, Course.class);
+        validateCapacity(courseDTO);
+        Course course = courseMapper.toEntity(courseDTO);
         Course savedCourse = courseRepository.save(course);
-        return modelMapper.map(savedCourse, CourseDTO.class);
+        changeVersionService.recordChange(ChangeVersionService.Table.COURSES);
+        // Registered first, so the catalogue is never reloaded from a replica that has not caught up
+        replicaLagMonitor.ifAvailable(ReplicaLagMonitor::recordWriteAfterCommit);
+        courseCatalogCache.invalidateAfterCommit();
+        CourseDTO created = courseMapper.toDTO(savedCourse);
+        created.setSeatsRemaining(savedCourse.getCapacity());
+        return created;
     }
 
     /**
      * Update an existing course
      */
     public CourseDTO updateCourse(Long courseId, CourseDTO courseDTO) {
+        validateCapacity(courseDTO);
         Course course = courseRepository.findById(courseId)
                 .orElseThrow(() -> new RuntimeException("Course not found with id: " + courseId));
 
@@ -73,25 +130,60 @@ public class CourseService {
         course.setDuration(courseDTO.getDuration());
         course.setLevel(courseDTO.getLevel());
         course.setActive(courseDTO.getActive());
+        course.setCapacity(courseDTO.getCapacity());
 
         Course updatedCourse = courseRepository.save(course);
-        return modelMapper.map(updatedCourse, CourseDTO.class);
+        changeVersionService.recordChange(ChangeVersionService.Table.COURSES);
+        // Registered first, so the catalogue is never reloaded from a replica that has not caught up
+        replicaLagMonitor.ifAvailable(ReplicaLagMonitor::recordWriteAfterCommit);
+        courseCatalogCache.invalidateAfterCommit();
+        courseSeatService.invalidateAfterCommit(courseId);
+        CourseDTO updated = courseMapper.toDTO(updatedCourse);
+        if (updatedCourse.getCapacity() != null) {
+            updated.setSeatsRemaining(Math.max(0, updatedCourse.getCapacity() - updatedCourse.getSeatsTaken()));
+        }
+        return updated;
     }
 
     /**
-     * Delete a course
+     * Delete a course that has no applications
      */
     public void deleteCourse(Long courseId) {
-        courseRepository.deleteById(courseId);
+        if (applicationRepository.existsByCourseId(courseId)) {
+            throw new CourseInUseException(courseId);
+        }
+        try {
+            courseRepository.deleteById(courseId);
+            courseRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            // An application was submitted for it since the check
+            throw new CourseInUseException(courseId);
+        }
+        changeVersionService.recordChange(ChangeVersionService.Table.COURSES);
+        // Registered first, so the catalogue is never reloaded from a replica that has not caught up
+        replicaLagMonitor.ifAvailable(ReplicaLagMonitor::recordWriteAfterCommit);
+        courseCatalogCache.invalidateAfterCommit();
     }
 
     /**
      * Get courses by level
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<CourseDTO> getCoursesByLevel(String level) {
-        return courseRepository.findByLevel(level)
-                .stream()
-                .map(course -> modelMapper.map(course, CourseDTO.class))
-                .collect(Collectors.toList());
+        return courseCatalogCache.getByLevel(level);
+    }
+
+    private void validateCapacity(CourseDTO courseDTO) {
+        if (courseDTO.getCapacity() != null && courseDTO.getCapacity() < 0) {
+            throw new RuntimeException("Capacity cannot be negative");
+        }
+    }
+
+    /**
+     * Hit and miss counts of the course catalogue cache
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CacheStatsDTO getCacheStats() {
+        return courseCatalogCache.getStats();
     }
 }
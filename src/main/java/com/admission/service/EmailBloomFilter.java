@@ -0,0 +1,147 @@
+package com.admission.service;
+
+import com.admission.entity.Application;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-process Bloom filter of the emails that already have an application
+ * A negative answer is definite, so submissions with a new email can skip the lookup query;
+ * a positive answer only means the database has to be asked. The filter is rebuilt from the
+ * applications table at startup and updated as applications are submitted.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailBloomFilter {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.email-filter.expected-insertions:1000000}")
+    private long expectedInsertions;
+
+    @Value("${app.email-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private volatile Bits current;
+    private volatile Bits building;
+
+    /**
+     * Whether an application with this email may exist; always true until the filter has been built
+     */
+    public boolean mightContain(String email) {
+        Bits bits = current;
+        return bits == null || bits.mightContain(normalize(email));
+    }
+
+    /**
+     * Record an email; safe to call for applications whose transaction later rolls back
+     */
+    public void add(String email) {
+        String normalized = normalize(email);
+        Bits bits = current;
+        if (bits != null) {
+            bits.add(normalized);
+        }
+        // Emails added while a rebuild is scanning the table must not be lost when it is swapped in
+        Bits next = building;
+        if (next != null) {
+            next.add(normalized);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM applications", Long.class);
+        // Leave room to grow, so the false-positive rate holds until the next restart
+        long capacity = Math.max(expectedInsertions, 2 * (existing == null ? 0 : existing));
+        Bits next = Bits.create(capacity, falsePositiveRate);
+        building = next;
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("SELECT email FROM applications");
+            statement.setFetchSize(1000);
+            return statement;
+        }, rs -> {
+            next.add(normalize(rs.getString(1)));
+        });
+        // building keeps pointing at the same filter, so an add racing with the swap still reaches it
+        current = next;
+        log.info("Email filter built from {} application(s), sized for {} at a {} false-positive rate",
+                existing, capacity, falsePositiveRate);
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : Application.normalizeEmail(email);
+    }
+
+    /**
+     * Fixed-size bit array probed at {@code hashes} positions derived from two 64-bit hashes
+     */
+    private static final class Bits {
+
+        private final AtomicLongArray words;
+        private final long size;
+        private final int hashes;
+
+        private Bits(long size, int hashes) {
+            this.words = new AtomicLongArray((int) ((size + 63) / 64));
+            this.size = size;
+            this.hashes = hashes;
+        }
+
+        static Bits create(long capacity, double falsePositiveRate) {
+            double ln2 = Math.log(2);
+            long size = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (ln2 * ln2));
+            size = Math.min(Math.max(size, 64), (long) Integer.MAX_VALUE * 64);
+            int hashes = Math.max(1, (int) Math.round((double) size / capacity * ln2));
+            return new Bits(size, hashes);
+        }
+
+        void add(String value) {
+            long h1 = hash(value, 0x9E3779B97F4A7C15L);
+            long h2 = hash(value, 0xC2B2AE3D27D4EB4FL);
+            for (int i = 0; i < hashes; i++) {
+                long bit = Math.floorMod(h1 + i * h2, size);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                if ((words.get(word) & mask) == 0) {
+                    words.getAndAccumulate(word, mask, (a, b) -> a | b);
+                }
+            }
+        }
+
+        boolean mightContain(String value) {
+            long h1 = hash(value, 0x9E3779B97F4A7C15L);
+            long h2 = hash(value, 0xC2B2AE3D27D4EB4FL);
+            for (int i = 0; i < hashes; i++) {
+                long bit = Math.floorMod(h1 + i * h2, size);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long hash(String value, long seed) {
+            long h = seed;
+            for (int i = 0; i < value.length(); i++) {
+                h = (h ^ value.charAt(i)) * 0x100000001B3L;
+            }
+            // Final avalanche (MurmurHash3 fmix64) so similar emails land far apart
+            h ^= h >>> 33;
+            h *= 0xFF51AFD7ED558CCDL;
+            h ^= h >>> 33;
+            h *= 0xC4CEB9FE1A85EC53L;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
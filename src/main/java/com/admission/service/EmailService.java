@@ -1,53 +1,102 @@
 package com.admission.service;
 
+import com.admission.dto.EmailNotificationDTO;
 import com.admission.entity.Application;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Service class for Email notifications
- * Sends email notifications on application status changes
+ * Builds status change notifications and sends them in batches
  */
 @Service
 @RequiredArgsConstructor
 public class EmailService {
 
+    private static final String SUBJECT = "Admission Application Status Update";
+
     private final JavaMailSender mailSender;
+    private final MeterRegistry meterRegistry;
 
     /**
-     * Send status change notification email
+     * Capture everything needed to notify the applicant while the application is still attached
      */
-    public void sendStatusChangeNotification(Application application) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(application.getEmail());
-            message.setSubject("Admission Application Status Update");
+    public EmailNotificationDTO buildStatusChangeNotification(Application application) {
+        EmailNotificationDTO notification = EmailNotificationDTO.builder()
+                .recipientEmail(application.getEmail())
+                .applicantName(application.getApplicantName())
+                .courseName(application.getCourse().getCourseName())
+                .status(application.getStatus().name())
+                .rejectionReason(application.getRejectionReason())
+                .build();
+        notification.setMessage(buildEmailContent(notification));
+        return notification;
+    }
 
-            String content = buildEmailContent(application);
-            message.setText(content);
+    /**
+     * Send a batch of notifications over a single SMTP connection
+     * Returns the notifications that could not be delivered, keyed by identity
+     */
+    public Map<EmailNotificationDTO, Exception> sendBatch(List<EmailNotificationDTO> notifications) {
+        Map<SimpleMailMessage, EmailNotificationDTO> byMessage = new IdentityHashMap<>();
+        SimpleMailMessage[] messages = new SimpleMailMessage[notifications.size()];
+        for (int i = 0; i < messages.length; i++) {
+            EmailNotificationDTO notification = notifications.get(i);
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setTo(notification.getRecipientEmail());
+            message.setSubject(SUBJECT);
+            message.setText(notification.getMessage());
+            messages[i] = message;
+            byMessage.put(message, notification);
+        }
 
-            mailSender.send(message);
+        Map<EmailNotificationDTO, Exception> failures = new IdentityHashMap<>();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException e) {
+            // Per-message failures are reported against the original messages; anything else failed the whole batch
+            if (e.getFailedMessages().isEmpty()) {
+                notifications.forEach(notification -> failures.put(notification, e));
+            } else {
+                e.getFailedMessages().forEach((message, cause) -> {
+                    EmailNotificationDTO notification = byMessage.get(message);
+                    if (notification != null) {
+                        failures.put(notification, cause);
+                    }
+                });
+            }
         } catch (Exception e) {
-            System.err.println("Error sending email: " + e.getMessage());
-            // Don't throw exception to prevent application flow from breaking
+            notifications.forEach(notification -> failures.put(notification, e));
         }
+        sample.stop(meterRegistry.timer("admission.email.send", "outcome", failures.isEmpty() ? "SUCCESS" : "FAILURE"));
+        meterRegistry.counter("admission.email.messages", "result", "sent").increment(messages.length - failures.size());
+        meterRegistry.counter("admission.email.messages", "result", "failed").increment(failures.size());
+        return failures;
     }
 
     /**
      * Build email content based on application status
      */
-    private String buildEmailContent(Application application) {
+    private String buildEmailContent(EmailNotificationDTO notification) {
         StringBuilder content = new StringBuilder();
-        content.append("Dear ").append(application.getApplicantName()).append(",\n\n");
+        content.append("Dear ").append(notification.getApplicantName()).append(",\n\n");
         content.append("This is to inform you about the status of your admission application.\n\n");
 
-        switch (application.getStatus()) {
+        switch (Application.ApplicationStatus.valueOf(notification.getStatus())) {
             case SELECTED:
                 content.append("Status: SELECTED\n");
                 content.append("Congratulations! Your application for the course '")
-                        .append(application.getCourse().getCourseName())
+                        .append(notification.getCourseName())
                         .append("' has been accepted.\n");
                 content.append("Please contact the admission office for further details.\n");
                 break;
@@ -55,10 +104,10 @@ public class EmailService {
             case REJECTED:
                 content.append("Status: REJECTED\n");
                 content.append("Unfortunately, your application for the course '")
-                        .append(application.getCourse().getCourseName())
+                        .append(notification.getCourseName())
                         .append("' has been rejected.\n");
-                if (application.getRejectionReason() != null) {
-                    content.append("Reason: ").append(application.getRejectionReason()).append("\n");
+                if (notification.getRejectionReason() != null) {
+                    content.append("Reason: ").append(notification.getRejectionReason()).append("\n");
                 }
                 break;
 
@@ -0,0 +1,174 @@
+package com.admission.service;
+
+import com.admission.dto.ExportFormat;
+import com.admission.entity.Application.ApplicationStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.admission.service.ExportWriter.ColumnType.LONG;
+import static com.admission.service.ExportWriter.ColumnType.STRING;
+import static com.admission.service.ExportWriter.ColumnType.TIMESTAMP;
+
+/**
+ * Service class for bulk exports of applications and students
+ * Rows are read from a forward-only JDBC cursor and written straight to the output stream,
+ * so memory use does not depend on the number of rows exported
+ */
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final List<ExportWriter.Column> APPLICATION_COLUMNS = List.of(
+            new ExportWriter.Column("id", LONG),
+            new ExportWriter.Column("applicantName", STRING),
+            new ExportWriter.Column("email", STRING),
+            new ExportWriter.Column("phoneNumber", STRING),
+            new ExportWriter.Column("address", STRING),
+            new ExportWriter.Column("additionalInformation", STRING),
+            new ExportWriter.Column("status", STRING),
+            new ExportWriter.Column("rejectionReason", STRING),
+            new ExportWriter.Column("courseId", LONG),
+            new ExportWriter.Column("courseName", STRING),
+            new ExportWriter.Column("createdAt", TIMESTAMP),
+            new ExportWriter.Column("updatedAt", TIMESTAMP),
+            new ExportWriter.Column("statusChangedAt", TIMESTAMP));
+
+    private static final List<ExportWriter.Column> STUDENT_COLUMNS = List.of(
+            new ExportWriter.Column("id", LONG),
+            new ExportWriter.Column("studentName", STRING),
+            new ExportWriter.Column("email", STRING),
+            new ExportWriter.Column("phoneNumber", STRING),
+            new ExportWriter.Column("address", STRING),
+            new ExportWriter.Column("courseId", LONG),
+            new ExportWriter.Column("courseName", STRING),
+            new ExportWriter.Column("applicationId", LONG),
+            new ExportWriter.Column("enrollmentStatus", STRING),
+            new ExportWriter.Column("createdAt", TIMESTAMP),
+            new ExportWriter.Column("updatedAt", TIMESTAMP));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Export applications ordered by id, optionally filtered by course, status and creation date range
+     */
+    @Transactional(readOnly = true)
+    public void exportApplications(ExportFormat format, Long courseId, ApplicationStatus status,
+                                   LocalDateTime from, LocalDateTime to, OutputStream out) throws IOException {
+        Query query = new Query("SELECT a.id, a.applicant_name, a.email, a.phone_number, a.address, " +
+                "a.additional_information, a.status, a.rejection_reason, a.course_id, c.course_name, " +
+                "a.created_at, a.updated_at, a.status_changed_at " +
+                "FROM applications a JOIN courses c ON c.id = a.course_id");
+        query.filter("a.course_id = ?", courseId);
+        query.filter("a.status = ?", status == null ? null : status.name());
+        query.filter("a.created_at >= ?", from == null ? null : Timestamp.valueOf(from));
+        query.filter("a.created_at < ?", to == null ? null : Timestamp.valueOf(to));
+        export(query.orderBy("a.id"), format, APPLICATION_COLUMNS, out);
+    }
+
+    /**
+     * Export students ordered by id, optionally filtered by course, enrollment status and creation date range
+     */
+    @Transactional(readOnly = true)
+    public void exportStudents(ExportFormat format, Long courseId, String enrollmentStatus,
+                               LocalDateTime from, LocalDateTime to, OutputStream out) throws IOException {
+        Query query = new Query("SELECT s.id, s.student_name, s.email, s.phone_number, s.address, s.course_id, " +
+                "c.course_name, s.application_id, s.enrollment_status, s.created_at, s.updated_at " +
+                "FROM students s JOIN courses c ON c.id = s.course_id");
+        query.filter("s.course_id = ?", courseId);
+        query.filter("s.enrollment_status = ?", enrollmentStatus);
+        query.filter("s.created_at >= ?", from == null ? null : Timestamp.valueOf(from));
+        query.filter("s.created_at < ?", to == null ? null : Timestamp.valueOf(to));
+        export(query.orderBy("s.id"), format, STUDENT_COLUMNS, out);
+    }
+
+    private void export(Query query, ExportFormat format, List<ExportWriter.Column> columns, OutputStream out)
+            throws IOException {
+        ExportWriter writer = switch (format) {
+            case CSV -> new CsvExportWriter(out, columns);
+            case COLUMNAR -> new ColumnarExportWriter(out, columns);
+        };
+        Object[] row = new Object[columns.size()];
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(query.sql(),
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(FETCH_SIZE);
+                for (int i = 0; i < query.params.size(); i++) {
+                    statement.setObject(i + 1, query.params.get(i));
+                }
+                return statement;
+            }, rs -> {
+                readRow(rs, columns, row);
+                try {
+                    writer.writeRow(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // Usually the client disconnecting; the cursor has already been closed by JdbcTemplate
+            throw e.getCause();
+        }
+        writer.finish();
+    }
+
+    private static void readRow(ResultSet rs, List<ExportWriter.Column> columns, Object[] row) throws SQLException {
+        for (int i = 0; i < row.length; i++) {
+            row[i] = switch (columns.get(i).type()) {
+                case LONG -> {
+                    long value = rs.getLong(i + 1);
+                    yield rs.wasNull() ? null : value;
+                }
+                case STRING -> rs.getString(i + 1);
+                case TIMESTAMP -> {
+                    Timestamp value = rs.getTimestamp(i + 1);
+                    yield value == null ? null : value.toLocalDateTime();
+                }
+            };
+        }
+    }
+
+    /**
+     * SELECT with an optional WHERE clause assembled from the filters that were supplied
+     */
+    private static final class Query {
+
+        private final StringBuilder sql;
+        private final List<Object> params = new ArrayList<>();
+
+        Query(String select) {
+            this.sql = new StringBuilder(select);
+        }
+
+        void filter(String condition, Object value) {
+            if (value != null) {
+                sql.append(params.isEmpty() ? " WHERE " : " AND ").append(condition);
+                params.add(value);
+            }
+        }
+
+        Query orderBy(String column) {
+            sql.append(" ORDER BY ").append(column);
+            return this;
+        }
+
+        String sql() {
+            return sql.toString();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.admission.service;
+
+import java.io.IOException;
+
+/**
+ * Writes rows of a fixed set of columns to an export file, one row at a time
+ */
+interface ExportWriter {
+
+    /**
+     * Column types understood by the writers; values are Long, String and LocalDateTime respectively
+     */
+    enum ColumnType {
+        LONG,
+        STRING,
+        TIMESTAMP
+    }
+
+    record Column(String name, ColumnType type) {
+    }
+
+    /**
+     * Write one row; {@code values} is only read during the call and may be reused by the caller
+     */
+    void writeRow(Object[] values) throws IOException;
+
+    /**
+     * Write anything still buffered and the end of the file, without closing the underlying stream
+     */
+    void finish() throws IOException;
+}
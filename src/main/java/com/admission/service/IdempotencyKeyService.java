@@ -0,0 +1,125 @@
+package com.admission.service;
+
+import com.admission.dto.ApplicationResponseDTO;
+import com.admission.exception.IdempotencyKeyInUseException;
+import com.admission.exception.InvalidIdempotencyKeyException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Idempotency keys for status updates
+ * A key is claimed by inserting it in the same transaction as the update it guards, so a concurrent or
+ * repeated request with the same key either waits for that transaction or fails on the primary key;
+ * once committed, the stored response is replayed for every later request with the key
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyKeyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.idempotency.retention-hours:24}")
+    private long retentionHours;
+
+    /**
+     * Hash identifying the request a key was first used for
+     */
+    public String fingerprint(Object... parts) {
+        StringBuilder request = new StringBuilder();
+        for (Object part : parts) {
+            request.append(part).append('\u001F');
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(request.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Stored response for a key that has already been used, empty when the key is new
+     * Not read-only, so it reads the primary: a replica may not have the key yet
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<ApplicationResponseDTO> findResponse(String key, String fingerprint) {
+        validate(key);
+        List<String[]> rows = jdbcTemplate.query("SELECT request_hash, response FROM idempotency_keys " +
+                "WHERE idempotency_key = ?", (rs, rowNum) -> new String[]{rs.getString(1), rs.getString(2)}, key);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        if (!rows.get(0)[0].equals(fingerprint)) {
+            throw new InvalidIdempotencyKeyException("Idempotency key was already used for a different request: " + key);
+        }
+        try {
+            return Optional.of(objectMapper.readValue(rows.get(0)[1], ApplicationResponseDTO.class));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable response stored for idempotency key " + key, e);
+        }
+    }
+
+    /**
+     * Claim a key for the current transaction; throws IdempotencyKeyInUseException when it is already taken
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void claim(String key, String fingerprint) {
+        validate(key);
+        try {
+            jdbcTemplate.update("INSERT INTO idempotency_keys (idempotency_key, request_hash, created_at) VALUES (?, ?, ?)",
+                    key, fingerprint, Timestamp.valueOf(LocalDateTime.now()));
+        } catch (DuplicateKeyException e) {
+            throw new IdempotencyKeyInUseException(key, e);
+        }
+    }
+
+    /**
+     * Store the response of the request that claimed the key
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void complete(String key, ApplicationResponseDTO response) {
+        try {
+            jdbcTemplate.update("UPDATE idempotency_keys SET response = ? WHERE idempotency_key = ?",
+                    objectMapper.writeValueAsString(response), key);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not store the response for idempotency key " + key, e);
+        }
+    }
+
+    @Scheduled(fixedDelay = 3600000)
+    public void purgeExpired() {
+        int purged = jdbcTemplate.update("DELETE FROM idempotency_keys WHERE created_at < ?",
+                Timestamp.valueOf(LocalDateTime.now().minusHours(retentionHours)));
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency key(s)", purged);
+        }
+    }
+
+    private static void validate(String key) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException("Idempotency key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.admission.service;
+
+import com.admission.config.NotificationProperties;
+import com.admission.dto.EmailNotificationDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous email dispatch pipeline
+ * Notifications are drained by a bounded worker pool that sends them in batches over a single
+ * SMTP connection; the outcome of every message is reported back through its callback
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDispatcher {
+
+    private static final long POLL_INTERVAL_MS = 200;
+
+    private final EmailService emailService;
+    private final NotificationProperties properties;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private BlockingQueue<PendingNotification> queue;
+    private ExecutorService workers;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        running = true;
+        // Workers spend most of their time waiting on SMTP, so they run on virtual threads when the app does
+        ThreadFactory threadFactory = virtualThreads
+                ? new VirtualThreadTaskExecutor("notification-dispatch-").getVirtualThreadFactory()
+                : new CustomizableThreadFactory("notification-dispatch-");
+        workers = Executors.newFixedThreadPool(properties.getWorkers(), threadFactory);
+        for (int i = 0; i < properties.getWorkers(); i++) {
+            workers.execute(this::drainLoop);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("Notification dispatcher stopped with {} undelivered notification(s)", queue.size());
+        }
+    }
+
+    /**
+     * Queue a notification for delivery without blocking
+     * Returns false when the queue is full so the caller can hold on to the message
+     */
+    public boolean offer(EmailNotificationDTO notification, DeliveryCallback callback) {
+        return running && queue.offer(new PendingNotification(notification, callback));
+    }
+
+    /**
+     * Free slots in the queue
+     */
+    public int remainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    /**
+     * Number of notifications waiting to be sent
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    private void drainLoop() {
+        List<PendingNotification> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingNotification first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unexpected failure in notification worker", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void deliver(List<PendingNotification> batch) {
+        List<EmailNotificationDTO> notifications = new ArrayList<>(batch.size());
+        for (PendingNotification pending : batch) {
+            notifications.add(pending.notification);
+        }
+
+        Map<EmailNotificationDTO, Exception> failures = emailService.sendBatch(notifications);
+        for (PendingNotification pending : batch) {
+            Exception failure = failures.get(pending.notification);
+            if (failure == null) {
+                pending.callback.delivered();
+            } else {
+                pending.callback.failed(failure);
+            }
+        }
+    }
+
+    /**
+     * Receives the outcome of a single delivery attempt
+     */
+    public interface DeliveryCallback {
+
+        void delivered();
+
+        void failed(Exception cause);
+    }
+
+    private record PendingNotification(EmailNotificationDTO notification, DeliveryCallback callback) {
+    }
+}
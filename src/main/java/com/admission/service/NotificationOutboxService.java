@@ -0,0 +1,199 @@
+package com.admission.service;
+
+import com.admission.config.NotificationProperties;
+import com.admission.dto.DeadLetterDTO;
+import com.admission.dto.EmailNotificationDTO;
+import com.admission.entity.OutboxMessage;
+import com.admission.entity.OutboxMessage.DeliveryStatus;
+import com.admission.repository.OutboxMessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for the notification outbox
+ * Notifications are stored in the same transaction as the status change they describe and
+ * delivered later by the relay, so they survive restarts and never describe a rolled-back change
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class NotificationOutboxService {
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final NotificationProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Store a notification as part of the caller's transaction
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Long applicationId, EmailNotificationDTO notification) {
+        outboxMessageRepository.save(toOutboxMessage(applicationId, notification));
+    }
+
+    /**
+     * Store many notifications as part of the caller's transaction using a single JDBC batch
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueAll(Map<Long, EmailNotificationDTO> notificationsByApplicationId) {
+        if (notificationsByApplicationId.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(notificationsByApplicationId.size());
+        notificationsByApplicationId.forEach((applicationId, notification) -> rows.add(new Object[]{
+                applicationId, notification.getRecipientEmail(), notification.getApplicantName(),
+                notification.getCourseName(), notification.getStatus(), notification.getRejectionReason(),
+                notification.getMessage(), DeliveryStatus.PENDING.name(), 0, now, now
+        }));
+        jdbcTemplate.batchUpdate("INSERT INTO outbox (application_id, recipient_email, applicant_name, course_name, " +
+                "application_status, rejection_reason, message, delivery_status, attempts, next_attempt_at, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    /**
+     * Claim up to {@code limit} messages that are due for delivery
+     */
+    public List<OutboxMessage> claimBatch(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> candidates = outboxMessageRepository.findIdsReadyForDelivery(now, PageRequest.of(0, limit));
+        if (candidates.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String token = UUID.randomUUID().toString();
+        if (outboxMessageRepository.claim(candidates, token, now) == 0) {
+            return Collections.emptyList();
+        }
+        return outboxMessageRepository.findByClaimToken(token);
+    }
+
+    /**
+     * Mark claimed messages as sent
+     */
+    public void acknowledge(Collection<Long> ids) {
+        outboxMessageRepository.markSent(ids, LocalDateTime.now());
+    }
+
+    /**
+     * Return claimed messages that could not be handed to the dispatcher
+     */
+    public void release(Collection<Long> ids) {
+        outboxMessageRepository.release(ids);
+    }
+
+    /**
+     * Record failed delivery attempts, scheduling a retry with backoff or marking the message dead
+     */
+    public void recordFailures(Map<Long, String> failures) {
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboxMessage message : outboxMessageRepository.findAllById(failures.keySet())) {
+            if (message.getDeliveryStatus() != DeliveryStatus.IN_FLIGHT) {
+                continue;
+            }
+            int attempts = message.getAttempts() + 1;
+            message.setAttempts(attempts);
+            message.setClaimToken(null);
+            message.setLastError(StringUtils.abbreviate(failures.get(message.getId()), 1000));
+            if (attempts >= properties.getMaxAttempts()) {
+                message.setDeliveryStatus(DeliveryStatus.DEAD);
+                message.setNextAttemptAt(now);
+                log.warn("Notification {} for {} is dead after {} attempt(s): {}",
+                        message.getId(), message.getRecipientEmail(), attempts, message.getLastError());
+            } else {
+                message.setDeliveryStatus(DeliveryStatus.PENDING);
+                message.setNextAttemptAt(now.plus(backoff(attempts), ChronoUnit.MILLIS));
+            }
+        }
+    }
+
+    /**
+     * Make messages claimed by a relay that never acknowledged them deliverable again
+     */
+    public int releaseExpiredClaims() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getClaimTimeoutMs(), ChronoUnit.MILLIS);
+        return outboxMessageRepository.releaseExpiredClaims(cutoff);
+    }
+
+    /**
+     * Delete sent messages older than the retention period
+     */
+    public int purgeSent() {
+        return outboxMessageRepository.deleteSentBefore(LocalDateTime.now().minusHours(properties.getRetentionHours()));
+    }
+
+    /**
+     * Get all messages that exhausted their delivery attempts
+     */
+    @Transactional(readOnly = true)
+    public List<DeadLetterDTO> getDeadLetters() {
+        return outboxMessageRepository.findByDeliveryStatusOrderByIdAsc(DeliveryStatus.DEAD)
+                .stream()
+                .map(message -> DeadLetterDTO.builder()
+                        .id(message.getId())
+                        .notification(toNotification(message))
+                        .attempts(message.getAttempts())
+                        .reason(message.getLastError())
+                        .failedAt(message.getNextAttemptAt())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Reset dead messages so the relay delivers them again
+     */
+    public int redriveDeadLetters() {
+        return outboxMessageRepository.redriveDead(LocalDateTime.now());
+    }
+
+    public EmailNotificationDTO toNotification(OutboxMessage message) {
+        return EmailNotificationDTO.builder()
+                .recipientEmail(message.getRecipientEmail())
+                .applicantName(message.getApplicantName())
+                .courseName(message.getCourseName())
+                .status(message.getApplicationStatus())
+                .rejectionReason(message.getRejectionReason())
+                .message(message.getMessage())
+                .build();
+    }
+
+    private OutboxMessage toOutboxMessage(Long applicationId, EmailNotificationDTO notification) {
+        return OutboxMessage.builder()
+                .applicationId(applicationId)
+                .recipientEmail(notification.getRecipientEmail())
+                .applicantName(notification.getApplicantName())
+                .courseName(notification.getCourseName())
+                .applicationStatus(notification.getStatus())
+                .rejectionReason(notification.getRejectionReason())
+                .message(notification.getMessage())
+                .deliveryStatus(DeliveryStatus.PENDING)
+                .attempts(0)
+                .build();
+    }
+
+    /**
+     * Exponential backoff capped at the configured maximum, with jitter to spread out retries
+     */
+    private long backoff(int attempts) {
+        long exponential = properties.getInitialBackoffMs() << Math.min(attempts - 1, 20);
+        long capped = Math.min(exponential, properties.getMaxBackoffMs());
+        return capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+    }
+}
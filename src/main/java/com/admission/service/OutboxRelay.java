@@ -0,0 +1,102 @@
+package com.admission.service;
+
+import com.admission.config.NotificationProperties;
+import com.admission.entity.OutboxMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Background relay between the notification outbox and the email dispatcher
+ * Each poll first records the outcomes reported by the dispatcher, then claims as many due
+ * messages as the dispatch queue can accept
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private final NotificationOutboxService outboxService;
+    private final NotificationDispatcher notificationDispatcher;
+    private final NotificationProperties properties;
+
+    private final Queue<Long> delivered = new ConcurrentLinkedQueue<>();
+    private final Queue<Failure> failed = new ConcurrentLinkedQueue<>();
+
+    @Scheduled(fixedDelayString = "${app.notification.poll-interval-ms:500}")
+    public void poll() {
+        acknowledgeOutcomes();
+
+        int capacity = Math.min(notificationDispatcher.remainingCapacity(), properties.getBatchSize() * properties.getWorkers());
+        if (capacity <= 0) {
+            return;
+        }
+        List<OutboxMessage> claimed = outboxService.claimBatch(capacity);
+        List<Long> rejected = new ArrayList<>();
+        for (OutboxMessage message : claimed) {
+            Long id = message.getId();
+            boolean accepted = notificationDispatcher.offer(outboxService.toNotification(message),
+                    new NotificationDispatcher.DeliveryCallback() {
+                        @Override
+                        public void delivered() {
+                            OutboxRelay.this.delivered.add(id);
+                        }
+
+                        @Override
+                        public void failed(Exception cause) {
+                            OutboxRelay.this.failed.add(new Failure(id, String.valueOf(cause.getMessage())));
+                        }
+                    });
+            if (!accepted) {
+                rejected.add(id);
+            }
+        }
+        if (!rejected.isEmpty()) {
+            outboxService.release(rejected);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.notification.claim-timeout-ms:300000}")
+    public void releaseExpiredClaims() {
+        int released = outboxService.releaseExpiredClaims();
+        if (released > 0) {
+            log.warn("Released {} outbox message(s) whose claim expired", released);
+        }
+    }
+
+    @Scheduled(fixedDelay = 3600000)
+    public void purgeSent() {
+        outboxService.purgeSent();
+    }
+
+    private void acknowledgeOutcomes() {
+        List<Long> sent = new ArrayList<>();
+        Long id;
+        while ((id = delivered.poll()) != null) {
+            sent.add(id);
+        }
+        if (!sent.isEmpty()) {
+            outboxService.acknowledge(sent);
+        }
+
+        Map<Long, String> failures = new HashMap<>();
+        Failure failure;
+        while ((failure = failed.poll()) != null) {
+            failures.put(failure.id(), failure.reason());
+        }
+        if (!failures.isEmpty()) {
+            outboxService.recordFailures(failures);
+        }
+    }
+
+    private record Failure(Long id, String reason) {
+    }
+}
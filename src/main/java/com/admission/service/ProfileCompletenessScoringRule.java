@@ -0,0 +1,26 @@
+package com.admission.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Favours applications that tell more about the applicant, up to 500 characters of additional information
+ */
+@Component
+public class ProfileCompletenessScoringRule implements ApplicationScoringRule {
+
+    private static final int FULL_SCORE_LENGTH = 500;
+
+    @Override
+    public String name() {
+        return "profile-completeness";
+    }
+
+    @Override
+    public double score(Candidate candidate, LocalDateTime rankedAt) {
+        String information = candidate.additionalInformation();
+        int length = information == null ? 0 : information.strip().length();
+        return Math.min(length, FULL_SCORE_LENGTH) / (double) FULL_SCORE_LENGTH;
+    }
+}
@@ -0,0 +1,230 @@
+package com.admission.service;
+
+import com.admission.config.SelectionProperties;
+import com.admission.dto.BulkStatusUpdateItemDTO;
+import com.admission.dto.BulkStatusUpdateResultDTO;
+import com.admission.dto.CourseDTO;
+import com.admission.dto.CourseSelectionDTO;
+import com.admission.dto.SelectionDecisionDTO;
+import com.admission.dto.SelectionResultDTO;
+import com.admission.entity.Application.ApplicationStatus;
+import com.admission.service.ApplicationScoringRule.Candidate;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Automated selection of pending applications
+ * Each course's pending applications are streamed once and scored by the configured rules, keeping
+ * only the best candidates for its free seats in a bounded heap, so memory stays proportional to the
+ * seats rather than the applications. Courses are ranked in parallel on a fork/join pool and the
+ * decisions are applied through the bulk status update, which re-checks every seat and status.
+ */
+@Slf4j
+@Service
+@Timed("admission.service")
+@RequiredArgsConstructor
+public class SelectionService {
+
+    private static final String PENDING_BY_COURSE_SQL = "SELECT id, address, additional_information, created_at " +
+            "FROM applications WHERE course_id = ? AND status = 'PENDING'";
+
+    // Heap order: the weakest candidate first, so it is the one evicted; ties go to the earlier submission
+    private static final Comparator<Ranked> WEAKEST_FIRST = Comparator.comparingDouble(Ranked::score)
+            .thenComparing(Comparator.comparingLong(Ranked::submittedAt).reversed())
+            .thenComparing(Comparator.comparingLong(Ranked::applicationId).reversed());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CourseCatalogCache courseCatalogCache;
+    private final CourseSeatService courseSeatService;
+    private final BulkStatusUpdateService bulkStatusUpdateService;
+    private final List<ApplicationScoringRule> scoringRules;
+    private final SelectionProperties properties;
+
+    private ForkJoinPool pool;
+
+    @PostConstruct
+    void start() {
+        pool = new ForkJoinPool(properties.getParallelism());
+    }
+
+    @PreDestroy
+    void stop() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Rank the pending applications of one course, or of every active course, and select the best
+     * ones up to each course's free seats, further capped by {@code maxPerCourse} when given
+     * A dry run returns the proposed decisions without applying them
+     */
+    public SelectionResultDTO runSelection(Long courseId, Integer maxPerCourse, boolean dryRun) {
+        if (maxPerCourse != null && maxPerCourse < 0) {
+            throw new RuntimeException("maxPerCourse cannot be negative");
+        }
+        List<CourseDTO> courses = courseId == null ? courseCatalogCache.getActive()
+                : List.of(courseCatalogCache.getById(courseId)
+                        .orElseThrow(() -> new RuntimeException("Course not found with id: " + courseId)));
+        List<WeightedRule> rules = weightedRules();
+        LocalDateTime rankedAt = LocalDateTime.now();
+
+        long started = System.nanoTime();
+        List<ForkJoinTask<CourseSelectionDTO>> tasks = new ArrayList<>(courses.size());
+        for (CourseDTO course : courses) {
+            tasks.add(pool.submit(() -> rankCourse(course, maxPerCourse, rules, rankedAt)));
+        }
+        List<CourseSelectionDTO> rankings = new ArrayList<>(tasks.size());
+        for (ForkJoinTask<CourseSelectionDTO> task : tasks) {
+            rankings.add(task.join());
+        }
+        long evaluated = rankings.stream().mapToLong(CourseSelectionDTO::getEvaluated).sum();
+        log.info("Ranked {} pending application(s) across {} course(s) in {} ms", evaluated, rankings.size(),
+                (System.nanoTime() - started) / 1_000_000);
+
+        List<SelectionDecisionDTO> decisions = rankings.stream()
+                .flatMap(ranking -> ranking.getDecisions().stream())
+                .toList();
+        SelectionResultDTO result = SelectionResultDTO.builder()
+                .dryRun(dryRun)
+                .evaluated(evaluated)
+                .proposed(decisions.size())
+                .courses(rankings)
+                .build();
+        if (!dryRun && !decisions.isEmpty()) {
+            apply(decisions, result);
+        }
+        return result;
+    }
+
+    /**
+     * Select the proposed applications in rank order, so a course that has filled up since it was
+     * ranked turns away its lowest-ranked candidates
+     */
+    private void apply(List<SelectionDecisionDTO> decisions, SelectionResultDTO result) {
+        List<BulkStatusUpdateResultDTO> outcomes = bulkStatusUpdateService.updateStatuses(decisions.stream()
+                .map(decision -> BulkStatusUpdateItemDTO.builder()
+                        .applicationId(decision.getApplicationId())
+                        .status(ApplicationStatus.SELECTED)
+                        .build())
+                .iterator());
+        long selected = 0;
+        for (int i = 0; i < decisions.size(); i++) {
+            SelectionDecisionDTO decision = decisions.get(i);
+            BulkStatusUpdateResultDTO outcome = outcomes.get(i);
+            decision.setSelected(outcome.isSuccess());
+            decision.setError(outcome.getError());
+            if (outcome.isSuccess()) {
+                selected++;
+            }
+        }
+        result.setSelected(selected);
+        result.setFailed(decisions.size() - selected);
+    }
+
+    private CourseSelectionDTO rankCourse(CourseDTO course, Integer maxPerCourse, List<WeightedRule> rules,
+                                          LocalDateTime rankedAt) {
+        CourseSelectionDTO selection = CourseSelectionDTO.builder()
+                .courseId(course.getId())
+                .courseName(course.getCourseName())
+                .decisions(List.of())
+                .build();
+        Integer remaining = courseSeatService.remaining(course.getId());
+        Integer seats = seatsToFill(remaining, maxPerCourse);
+        selection.setSeats(seats);
+        if (seats == null) {
+            selection.setSkipped("Course capacity is unlimited and no maxPerCourse was given");
+            return selection;
+        }
+        if (seats == 0) {
+            selection.setSkipped("No seats to fill");
+            return selection;
+        }
+
+        PriorityQueue<Ranked> best = new PriorityQueue<>(Math.min(seats, 1024) + 1, WEAKEST_FIRST);
+        long[] evaluated = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(PENDING_BY_COURSE_SQL);
+            statement.setLong(1, course.getId());
+            statement.setFetchSize(1000);
+            return statement;
+        }, rs -> {
+            evaluated[0]++;
+            LocalDateTime createdAt = rs.getTimestamp(4).toLocalDateTime();
+            Candidate candidate = new Candidate(rs.getLong(1), course.getId(), rs.getString(2), rs.getString(3),
+                    createdAt);
+            Ranked ranked = new Ranked(candidate.applicationId(), score(candidate, rules, rankedAt),
+                    createdAt.toInstant(ZoneOffset.UTC).toEpochMilli());
+            if (best.size() < seats) {
+                best.add(ranked);
+            } else if (WEAKEST_FIRST.compare(ranked, best.peek()) > 0) {
+                best.poll();
+                best.add(ranked);
+            }
+        });
+
+        // Draining the heap yields the weakest first, so fill the ranking from the back
+        SelectionDecisionDTO[] decisions = new SelectionDecisionDTO[best.size()];
+        for (int rank = decisions.length; rank > 0; rank--) {
+            Ranked ranked = best.poll();
+            decisions[rank - 1] = SelectionDecisionDTO.builder()
+                    .applicationId(ranked.applicationId())
+                    .rank(rank)
+                    .score(ranked.score())
+                    .build();
+        }
+        selection.setEvaluated(evaluated[0]);
+        selection.setDecisions(List.of(decisions));
+        return selection;
+    }
+
+    /**
+     * The course's free seats capped by the requested maximum; null when neither limits the selection
+     */
+    private static Integer seatsToFill(Integer remaining, Integer maxPerCourse) {
+        if (maxPerCourse == null) {
+            return remaining;
+        }
+        return remaining == null ? maxPerCourse : Math.min(remaining, maxPerCourse);
+    }
+
+    private static double score(Candidate candidate, List<WeightedRule> rules, LocalDateTime rankedAt) {
+        double score = 0;
+        for (WeightedRule rule : rules) {
+            score += rule.weight() * rule.rule().score(candidate, rankedAt);
+        }
+        return score;
+    }
+
+    private List<WeightedRule> weightedRules() {
+        Map<String, Double> weights = properties.getWeights() == null ? Map.of() : properties.getWeights();
+        List<WeightedRule> rules = new ArrayList<>(scoringRules.size());
+        for (ApplicationScoringRule rule : scoringRules) {
+            double weight = weights.getOrDefault(rule.name(), 1.0);
+            if (weight != 0) {
+                rules.add(new WeightedRule(rule, weight));
+            }
+        }
+        return rules;
+    }
+
+    private record WeightedRule(ApplicationScoringRule rule, double weight) {
+    }
+
+    private record Ranked(long applicationId, double score, long submittedAt) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.admission.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Favours applications that have been waiting longer; a month of waiting scores 0.5
+ */
+@Component
+public class SubmissionOrderScoringRule implements ApplicationScoringRule {
+
+    private static final double HALF_SCORE_HOURS = 30 * 24;
+
+    @Override
+    public String name() {
+        return "submission-order";
+    }
+
+    @Override
+    public double score(Candidate candidate, LocalDateTime rankedAt) {
+        double hours = Math.max(0, Duration.between(candidate.createdAt(), rankedAt).toMinutes() / 60.0);
+        return hours / (hours + HALF_SCORE_HOURS);
+    }
+}
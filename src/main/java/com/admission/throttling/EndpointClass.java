@@ -0,0 +1,43 @@
+package com.admission.throttling;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Groups of endpoints that are limited separately, so a burst on one cannot starve the others
+ */
+public enum EndpointClass {
+
+    /** POST /api/applications/submit */
+    SUBMIT,
+
+    /** POST /api/applications/result */
+    RESULT_LOOKUP,
+
+    /** GET /api/courses/** */
+    CATALOGUE,
+
+    /** GET /api/export/** and the streamed application listings, which hold a slot until the transfer ends */
+    STREAM,
+
+    /** Every other /api endpoint, used by staff */
+    STAFF;
+
+    public static EndpointClass of(HttpServletRequest request) {
+        String method = request.getMethod();
+        String uri = request.getRequestURI();
+        if ("POST".equals(method) && uri.equals("/api/applications/submit")) {
+            return SUBMIT;
+        }
+        if ("POST".equals(method) && uri.equals("/api/applications/result")) {
+            return RESULT_LOOKUP;
+        }
+        if ("GET".equals(method) && (uri.equals("/api/courses") || uri.startsWith("/api/courses/"))) {
+            return CATALOGUE;
+        }
+        if ("GET".equals(method) && (uri.startsWith("/api/export/")
+                || (uri.startsWith("/api/applications/") && uri.endsWith("/stream")))) {
+            return STREAM;
+        }
+        return STAFF;
+    }
+}
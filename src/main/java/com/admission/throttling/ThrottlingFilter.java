@@ -0,0 +1,217 @@
+package com.admission.throttling;
+
+import com.admission.config.ThrottlingProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admission control in front of the API
+ * Submissions and result lookups are rate limited per client with token buckets (429 Too Many Requests), and
+ * every endpoint class has its own adaptive concurrency limit (503 Service Unavailable), so a burst of
+ * submissions cannot take the database pool from the staff endpoints. Rejections are immediate and carry
+ * Retry-After; nothing is queued.
+ */
+@Component
+@RequiredArgsConstructor
+public class ThrottlingFilter extends OncePerRequestFilter {
+
+    private static final String EVENT_STREAM = "/api/applications/events";
+
+    private final ThrottlingProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<EndpointClass, TokenBucketRateLimiter> rateLimiters = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, AdaptiveConcurrencyLimiter> concurrencyLimiters = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> rateLimited = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> concurrencyLimited = new EnumMap<>(EndpointClass.class);
+
+    @PostConstruct
+    void init() {
+        properties.getRateLimits().forEach((endpointClass, rateLimit) -> rateLimiters.put(endpointClass,
+                new TokenBucketRateLimiter(rateLimit.getCapacity(), rateLimit.getRefillPerSecond(),
+                        properties.getMaxTrackedClients())));
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            ThrottlingProperties.ConcurrencyLimit limit = properties.getConcurrencyLimits()
+                    .getOrDefault(endpointClass, new ThrottlingProperties.ConcurrencyLimit());
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(limit.getInitialLimit(),
+                    limit.getMinLimit(), limit.getMaxLimit(), limit.getLatencyTolerance());
+            concurrencyLimiters.put(endpointClass, limiter);
+
+            String endpoint = endpointClass.name().toLowerCase(Locale.ROOT).replace('_', '-');
+            rateLimited.put(endpointClass, rejectedCounter(endpoint, "rate-limit"));
+            concurrencyLimited.put(endpointClass, rejectedCounter(endpoint, "concurrency-limit"));
+            Gauge.builder("admission.throttling.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .description("Current adaptive concurrency limit")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry);
+            Gauge.builder("admission.throttling.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .description("Requests being processed")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry);
+            TokenBucketRateLimiter rateLimiter = rateLimiters.get(endpointClass);
+            if (rateLimiter != null) {
+                Gauge.builder("admission.throttling.clients", rateLimiter, TokenBucketRateLimiter::size)
+                        .description("Clients with a token bucket")
+                        .tag("endpoint", endpoint)
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // The event stream stays open for as long as a dashboard is connected; it is capped by
+        // app.events.max-subscribers instead of holding a staff slot the whole time
+        return !properties.isEnabled() || !request.getRequestURI().startsWith("/api/")
+                || "OPTIONS".equals(request.getMethod()) || EVENT_STREAM.equals(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        EndpointClass endpointClass = EndpointClass.of(request);
+
+        TokenBucketRateLimiter rateLimiter = rateLimiters.get(endpointClass);
+        if (rateLimiter != null) {
+            long waitNanos = rateLimiter.tryAcquire(clientKey(request));
+            if (waitNanos > 0) {
+                rateLimited.get(endpointClass).increment();
+                // Rounded up, so a client that waits as told finds a token
+                reject(request, response, HttpStatus.TOO_MANY_REQUESTS,
+                        TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1, "Too many requests from this client; retry later");
+                return;
+            }
+        }
+
+        AdaptiveConcurrencyLimiter concurrencyLimiter = concurrencyLimiters.get(endpointClass);
+        if (!concurrencyLimiter.tryAcquire()) {
+            concurrencyLimited.get(endpointClass).increment();
+            reject(request, response, HttpStatus.SERVICE_UNAVAILABLE, properties.getRetryAfterSeconds(),
+                    "Server is busy; retry later");
+            return;
+        }
+        Release release = new Release(concurrencyLimiter, System.nanoTime());
+        try {
+            chain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            release.run();
+            throw e;
+        }
+        // Streamed responses are still being written after the request thread returns; they hold their slot,
+        // and count towards the latency, until the async request completes
+        if (request.isAsyncStarted()) {
+            request.getAsyncContext().addListener(release);
+        } else {
+            release.run();
+        }
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdleClients() {
+        rateLimiters.values().forEach(TokenBucketRateLimiter::evictIdle);
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        String header = properties.getClientKeyHeader();
+        if (header != null && !header.isBlank() && properties.getTrustedProxies() > 0) {
+            String value = request.getHeader(header);
+            if (value != null && !value.isBlank()) {
+                // Counted from the right, past the entries our own proxies appended; a shorter header means the
+                // request skipped a proxy, and its leftmost entry is the best there is
+                String[] entries = value.split(",");
+                String entry = entries[Math.max(0, entries.length - properties.getTrustedProxies())].trim();
+                if (!entry.isEmpty()) {
+                    return entry;
+                }
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                        long retryAfterSeconds, String message) throws IOException {
+        // Same shape as Spring's error responses
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", status.value());
+        body.put("error", status.getReasonPhrase());
+        body.put("message", message);
+        body.put("path", request.getRequestURI());
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    /**
+     * Releases a concurrency slot once, when the request finishes on the request thread or asynchronously
+     */
+    @RequiredArgsConstructor
+    private static final class Release implements AsyncListener {
+
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final long started;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        void run() {
+            if (released.compareAndSet(false, true)) {
+                limiter.release(System.nanoTime() - started);
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            run();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            run();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            run();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Listeners are dropped when async processing is started again on a dispatch
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    private Counter rejectedCounter(String endpoint, String reason) {
+        return Counter.builder("admission.throttling.rejected")
+                .description("Requests shed before reaching the controller")
+                .tag("endpoint", endpoint)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
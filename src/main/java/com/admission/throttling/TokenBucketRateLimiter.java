@@ -0,0 +1,82 @@
+package com.admission.throttling;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Token bucket per client key
+ * Buckets refill lazily when used, so idle clients cost nothing until they are evicted. Beyond
+ * {@code maxClients} tracked keys, new clients share one bucket, which keeps memory bounded when
+ * keys are spoofed or a crowd arrives at once.
+ */
+final class TokenBucketRateLimiter {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final int maxClients;
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Bucket overflow;
+
+    TokenBucketRateLimiter(int capacity, double refillPerSecond, int maxClients) {
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerSecond / 1_000_000_000d;
+        this.maxClients = maxClients;
+        this.overflow = new Bucket(capacity, System.nanoTime());
+    }
+
+    /**
+     * Take a token for the client; returns 0 when granted, otherwise the nanoseconds until one is available
+     */
+    long tryAcquire(String clientKey) {
+        long now = System.nanoTime();
+        Bucket bucket = buckets.get(clientKey);
+        if (bucket == null) {
+            bucket = buckets.size() < maxClients
+                    ? buckets.computeIfAbsent(clientKey, key -> new Bucket(capacity, now))
+                    : overflow;
+        }
+        return bucket.tryAcquire(now);
+    }
+
+    /**
+     * Drop the buckets that have refilled completely, which a new bucket would recreate exactly
+     */
+    void evictIdle() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private final class Bucket {
+
+        // Guarded by this
+        private double tokens;
+        private long refilledAt;
+
+        Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.refilledAt = now;
+        }
+
+        synchronized long tryAcquire(long now) {
+            refill(now);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return tokensPerNano > 0 ? Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano)) : Long.MAX_VALUE;
+        }
+
+        synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= capacity;
+        }
+
+        private void refill(long now) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+-- Baseline schema, as previously generated by Hibernate
+-- Written in the subset of SQL understood by both H2 and MySQL
+
+CREATE TABLE courses (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    course_name VARCHAR(255) NOT NULL,
+    description VARCHAR(500),
+    duration INTEGER NOT NULL,
+    level VARCHAR(255) NOT NULL,
+    active BOOLEAN NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    CONSTRAINT uk_courses_course_name UNIQUE (course_name)
+);
+
+CREATE TABLE applications (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    applicant_name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    phone_number VARCHAR(255) NOT NULL,
+    address VARCHAR(500) NOT NULL,
+    additional_information VARCHAR(1000),
+    status VARCHAR(20) NOT NULL,
+    rejection_reason VARCHAR(500),
+    course_id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    status_changed_at DATETIME(6),
+    CONSTRAINT uk_applications_email UNIQUE (email),
+    CONSTRAINT fk_applications_course FOREIGN KEY (course_id) REFERENCES courses (id)
+);
+
+CREATE TABLE students (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    student_name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    phone_number VARCHAR(255) NOT NULL,
+    address VARCHAR(255) NOT NULL,
+    course_id BIGINT NOT NULL,
+    application_id BIGINT,
+    enrollment_status VARCHAR(20) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    CONSTRAINT uk_students_email UNIQUE (email),
+    CONSTRAINT fk_students_course FOREIGN KEY (course_id) REFERENCES courses (id)
+);
+
+CREATE TABLE outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    application_id BIGINT NOT NULL,
+    recipient_email VARCHAR(255) NOT NULL,
+    applicant_name VARCHAR(255) NOT NULL,
+    course_name VARCHAR(255),
+    application_status VARCHAR(20) NOT NULL,
+    rejection_reason VARCHAR(500),
+    message VARCHAR(4000) NOT NULL,
+    delivery_status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL,
+    next_attempt_at DATETIME(6) NOT NULL,
+    claim_token VARCHAR(64),
+    claimed_at DATETIME(6),
+    last_error VARCHAR(1000),
+    created_at DATETIME(6) NOT NULL,
+    sent_at DATETIME(6)
+);
+
+CREATE INDEX idx_outbox_status_next_attempt ON outbox (delivery_status, next_attempt_at);
+CREATE INDEX idx_outbox_claim_token ON outbox (claim_token);
+
+CREATE TABLE application_status_counters (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    course_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    slot INTEGER NOT NULL,
+    application_count BIGINT NOT NULL,
+    CONSTRAINT uk_status_counter_slot UNIQUE (course_id, status, slot)
+);
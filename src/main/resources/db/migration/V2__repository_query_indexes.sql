@@ -0,0 +1,20 @@
+-- Indexes matched to the ApplicationRepository and StudentRepository query methods
+-- Trailing id columns let keyset pages resolve ties from the index on engines whose secondary indexes omit the key
+
+-- findByStatus, countByStatus, findByStatusOrderByCreatedAtAsc, pending keyset pages and streams
+CREATE INDEX idx_applications_status_created ON applications (status, created_at, id);
+
+-- findAllSelectedApplications, selected keyset pages and streams
+CREATE INDEX idx_applications_status_changed ON applications (status, status_changed_at, id);
+
+-- findByCourseId, findByCourseIdAndStatus, course-filtered pages and the statistics reconciliation
+CREATE INDEX idx_applications_course_status ON applications (course_id, status, created_at);
+
+-- findByApplicationId; at most one student per application
+ALTER TABLE students ADD CONSTRAINT uk_students_application_id UNIQUE (application_id);
+
+-- findByCourseId
+CREATE INDEX idx_students_course ON students (course_id);
+
+-- findByEnrollmentStatus
+CREATE INDEX idx_students_enrollment_status ON students (enrollment_status);
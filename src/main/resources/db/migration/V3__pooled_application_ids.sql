@@ -0,0 +1,10 @@
+-- Applications take their ids from a pooled table generator (allocation size 50) instead of the identity column,
+-- so Hibernate can batch their inserts. The generator row starts one block past the highest existing id.
+
+CREATE TABLE id_generators (
+    name VARCHAR(64) NOT NULL PRIMARY KEY,
+    next_val BIGINT NOT NULL
+);
+
+INSERT INTO id_generators (name, next_val)
+SELECT 'applications', COALESCE(MAX(id), 0) + 51 FROM applications;
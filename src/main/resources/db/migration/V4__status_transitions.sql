@@ -0,0 +1,14 @@
+-- Optimistic locking for applications: every write bumps the version, and status changes are conditional
+-- on the status they were decided against.
+ALTER TABLE applications ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+-- Idempotency keys sent with status updates, kept with the response so a retried request is answered
+-- with the original outcome instead of being applied twice.
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(100) NOT NULL PRIMARY KEY,
+    request_hash VARCHAR(64) NOT NULL,
+    response TEXT,
+    created_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_idempotency_keys_created ON idempotency_keys (created_at);
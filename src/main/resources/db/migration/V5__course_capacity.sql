@@ -0,0 +1,8 @@
+-- Seat capacity per course (NULL means unlimited) and the number of seats taken by SELECTED applications.
+-- seats_taken is only changed with conditional updates, so it can never pass the capacity.
+ALTER TABLE courses ADD COLUMN capacity INT;
+ALTER TABLE courses ADD COLUMN seats_taken INT DEFAULT 0 NOT NULL;
+
+UPDATE courses SET seats_taken = (
+    SELECT COUNT(*) FROM applications a WHERE a.course_id = courses.id AND a.status = 'SELECTED'
+);
@@ -0,0 +1,8 @@
+-- Heartbeat written to the primary and read back from each replica to measure replication lag.
+-- A replica serves reads only once it has replayed a heartbeat written after the last status change.
+CREATE TABLE replica_heartbeat (
+    id INT NOT NULL PRIMARY KEY,
+    beat_millis BIGINT NOT NULL
+);
+
+INSERT INTO replica_heartbeat (id, beat_millis) VALUES (1, 0);
@@ -0,0 +1,14 @@
+-- Change counters behind the ETags of listing and catalogue responses. Every write transaction bumps one
+-- of a table's stripes, so concurrent writers rarely wait on each other and the sum only ever grows.
+CREATE TABLE change_versions (
+    table_name VARCHAR(50) NOT NULL,
+    stripe INT NOT NULL,
+    version BIGINT DEFAULT 0 NOT NULL,
+    PRIMARY KEY (table_name, stripe)
+);
+
+INSERT INTO change_versions (table_name, stripe, version) VALUES
+    ('applications', 0, 0), ('applications', 1, 0), ('applications', 2, 0), ('applications', 3, 0),
+    ('applications', 4, 0), ('applications', 5, 0), ('applications', 6, 0), ('applications', 7, 0),
+    ('courses', 0, 0), ('courses', 1, 0), ('courses', 2, 0), ('courses', 3, 0),
+    ('courses', 4, 0), ('courses', 5, 0), ('courses', 6, 0), ('courses', 7, 0);
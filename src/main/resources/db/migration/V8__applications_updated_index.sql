@@ -0,0 +1,2 @@
+-- Lets the result snapshot re-read only the recently updated applications on each refresh
+CREATE INDEX idx_applications_updated ON applications (updated_at);
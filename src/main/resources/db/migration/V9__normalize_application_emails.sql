@@ -0,0 +1,16 @@
+-- Emails are now stored trimmed and lower-cased, so the unique constraint also rejects addresses differing in case
+-- Rows that would collide with another application once normalized are left as they are, for manual review;
+-- the derived table lets MySQL read the table it updates
+UPDATE applications SET email = LOWER(TRIM(email))
+WHERE email <> LOWER(TRIM(email))
+  AND NOT EXISTS (
+    SELECT 1 FROM (SELECT id, email FROM applications) other
+    WHERE other.id <> applications.id AND LOWER(TRIM(other.email)) = LOWER(TRIM(applications.email))
+  );
+
+UPDATE students SET email = LOWER(TRIM(email))
+WHERE email <> LOWER(TRIM(email))
+  AND NOT EXISTS (
+    SELECT 1 FROM (SELECT id, email FROM students) other
+    WHERE other.id <> students.id AND LOWER(TRIM(other.email)) = LOWER(TRIM(students.email))
+  );
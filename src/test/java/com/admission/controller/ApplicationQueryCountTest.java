@@ -0,0 +1,141 @@
+package com.admission.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * Checks the number of SQL statements each read and submit request runs, which must not grow with the rows returned
+ * Counts come from the admission.http.db.queries summary recorded for every request by RequestMetricsFilter.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-count",
+        "app.throttling.enabled=false",
+        // One counter slot per course and status, so only the first submission for a course creates it
+        "app.statistics.stripes=1"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ApplicationQueryCountTest {
+
+    private static final int APPLICATIONS_PER_COURSE = 12;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final List<Long> courseIds = new ArrayList<>();
+    private final List<Long> applicationIds = new ArrayList<>();
+    private final List<Integer> submitStatements = new ArrayList<>();
+    private final Map<String, Double> totals = new HashMap<>();
+
+    @BeforeAll
+    void seed() throws Exception {
+        for (String name : List.of("Query count course A", "Query count course B")) {
+            courseIds.add(read(perform(post("/api/courses").contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(Map.of("courseName", name, "description", "d",
+                            "duration", 3, "level", "Beginner", "active", true))))).get("id").asLong());
+        }
+        for (int i = 0; i < APPLICATIONS_PER_COURSE * courseIds.size(); i++) {
+            MvcResult result = perform(post("/api/applications/submit").contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(Map.of("applicantName", "Applicant " + i,
+                            "email", "query-count-" + i + "@example.com", "phoneNumber", "9876543210",
+                            "address", "Address", "courseId", courseIds.get(i % courseIds.size())))));
+            applicationIds.add(read(result).get("id").asLong());
+            submitStatements.add(statements(result));
+        }
+        // Half of them selected, so the student listings have rows to return
+        for (int i = 0; i < applicationIds.size(); i += 2) {
+            perform(put("/api/applications/{id}/status", applicationIds.get(i)).contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"status\":\"SELECTED\"}"));
+        }
+    }
+
+    @Test
+    void submittingRunsTheSameStatementsEveryTime() {
+        // The first submission per course also loads the catalogue, an id block or the counter slot;
+        // after that: the insert, the status counter and the change version
+        assertThat(submitStatements.subList(courseIds.size(), submitStatements.size())).containsOnly(3);
+    }
+
+    @Test
+    void listingApplicationsDoesNotGrowWithThePageSize() throws Exception {
+        int small = statements(perform(get("/api/applications").param("size", "2")));
+        MvcResult largePage = perform(get("/api/applications").param("size", "20"));
+        assertThat(read(largePage)).hasSize(20);
+        int large = statements(largePage);
+        // The change versions for the ETag, then the page with its courses fetched in the same query
+        assertThat(large).isEqualTo(small).isEqualTo(2);
+
+        assertThat(statements(perform(get("/api/applications/status/pending").param("size", "20")))).isEqualTo(2);
+        assertThat(statements(perform(get("/api/applications/status/selected").param("size", "20")))).isEqualTo(2);
+    }
+
+    @Test
+    void listingStudentsDoesNotGrowWithTheStudents() throws Exception {
+        MvcResult all = perform(get("/api/applications/students/all"));
+        assertThat(read(all)).hasSize(APPLICATIONS_PER_COURSE);
+        assertThat(statements(all)).isEqualTo(2);
+        assertThat(statements(perform(get("/api/applications/students/course/{courseId}", courseIds.get(0)))))
+                .isEqualTo(2);
+    }
+
+    @Test
+    void readingOneApplicationRunsOneStatement() throws Exception {
+        // The course comes from the catalogue cache
+        assertThat(statements(perform(get("/api/applications/{id}", applicationIds.get(1))))).isEqualTo(1);
+    }
+
+    private MvcResult perform(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        assertThat(result.getResponse().getStatus()).as(result.getResponse().getContentAsString()).isLessThan(300);
+        return result;
+    }
+
+    private JsonNode read(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    /**
+     * Statements run by the request: how much its admission.http.db.queries summary grew since the last call
+     * Only valid for the most recent request to each endpoint
+     */
+    private int statements(MvcResult result) {
+        String method = result.getRequest().getMethod();
+        String uri = String.valueOf(result.getRequest().getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+        DistributionSummary summary = meterRegistry.get("admission.http.db.queries")
+                .tag("method", method)
+                .tag("uri", uri)
+                .summary();
+        double total = summary.totalAmount();
+        Double previous = totals.put(method + " " + uri, total);
+        return (int) (total - (previous == null ? 0 : previous));
+    }
+}
@@ -0,0 +1,173 @@
+package com.admission.repository;
+
+import com.admission.entity.Application.ApplicationStatus;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that every filter combination of the application listings is planned on the index meant for it
+ * The SQL Hibernate generates is captured and run through H2's EXPLAIN, which names the index it scans.
+ * H2 costs an index by its equality prefix only and ignores ORDER BY, so where two indexes share the prefix
+ * either is accepted.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.admission.repository.ApplicationListingQueryPlanTest$CapturingInspector",
+        "app.throttling.enabled=false"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ApplicationListingQueryPlanTest {
+
+    private static final int COURSES = 4;
+    private static final int APPLICATIONS = 2000;
+    private static final String STATUS_CREATED = "IDX_APPLICATIONS_STATUS_CREATED";
+    private static final String STATUS_CHANGED = "IDX_APPLICATIONS_STATUS_CHANGED";
+    private static final String COURSE_STATUS = "IDX_APPLICATIONS_COURSE_STATUS";
+    private static final String PRIMARY_KEY = "PRIMARY_KEY";
+    // H2 indexes the course foreign key on its own; MySQL reuses idx_applications_course_status for it
+    private static final String COURSE_FOREIGN_KEY = "FK_APPLICATIONS_COURSE_INDEX";
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> courseIds = new ArrayList<>();
+    private final LocalDateTime cursorTime = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @BeforeAll
+    void seed() {
+        LocalDateTime created = LocalDateTime.of(2026, 1, 1, 0, 0);
+        for (int c = 0; c < COURSES; c++) {
+            jdbcTemplate.update("INSERT INTO courses (course_name, duration, level, active, created_at) " +
+                    "VALUES (?, 3, 'Beginner', TRUE, ?)", "Plan test course " + c, Timestamp.valueOf(created));
+        }
+        courseIds.addAll(jdbcTemplate.queryForList(
+                "SELECT id FROM courses WHERE course_name LIKE 'Plan test course %' ORDER BY id", Long.class));
+
+        ApplicationStatus[] statuses = ApplicationStatus.values();
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < APPLICATIONS; i++) {
+            ApplicationStatus status = statuses[i % statuses.length];
+            LocalDateTime at = created.plusMinutes(i);
+            rows.add(new Object[]{"Applicant " + i, "plan-test-" + i + "@example.com", status.name(),
+                    courseIds.get(i % COURSES), Timestamp.valueOf(at),
+                    status == ApplicationStatus.PENDING ? null : Timestamp.valueOf(at.plusDays(1))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO applications (applicant_name, email, phone_number, address, status, " +
+                "course_id, created_at, status_changed_at) VALUES (?, ?, '0123456789', 'Address', ?, ?, ?, ?)", rows);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM applications WHERE email LIKE 'plan-test-%'");
+        jdbcTemplate.update("DELETE FROM courses WHERE course_name LIKE 'Plan test course %'");
+    }
+
+    @Test
+    void unfilteredPagesByIdReadThePrimaryKey() {
+        assertPlannedOn(() -> applicationRepository.findPageOrderById(0L, null, null, limit()), PRIMARY_KEY);
+    }
+
+    @Test
+    void pagesByStatusReadTheStatusIndexes() {
+        assertPlannedOn(() -> applicationRepository.findPageOrderByCreatedAt(
+                null, null, ApplicationStatus.PENDING, null, limit()), STATUS_CREATED);
+        assertPlannedOn(() -> applicationRepository.findPageOrderByCreatedAt(
+                cursorTime, 100L, ApplicationStatus.PENDING, null, limit()), STATUS_CREATED);
+        assertPlannedOn(() -> applicationRepository.findPageOrderByStatusChangedAtDesc(
+                null, null, ApplicationStatus.SELECTED, null, limit()), STATUS_CHANGED, STATUS_CREATED);
+        assertPlannedOn(() -> applicationRepository.findPageOrderByStatusChangedAtDesc(
+                cursorTime, 100L, ApplicationStatus.SELECTED, null, limit()), STATUS_CHANGED);
+    }
+
+    @Test
+    void pagesByCourseReadTheCourseIndex() {
+        Long courseId = courseIds.get(0);
+        assertPlannedOn(() -> applicationRepository.findPageOrderById(
+                0L, null, courseId, limit()), COURSE_STATUS, COURSE_FOREIGN_KEY);
+        assertPlannedOn(() -> applicationRepository.findPageOrderByCreatedAt(
+                null, null, null, courseId, limit()), COURSE_STATUS, COURSE_FOREIGN_KEY);
+        assertPlannedOn(() -> applicationRepository.findPageOrderById(
+                0L, ApplicationStatus.PENDING, courseId, limit()), COURSE_STATUS);
+        assertPlannedOn(() -> applicationRepository.findPageOrderByCreatedAt(
+                cursorTime, 100L, ApplicationStatus.PENDING, courseId, limit()), COURSE_STATUS);
+        assertPlannedOn(() -> applicationRepository.findPageOrderByStatusChangedAtDesc(
+                null, null, ApplicationStatus.SELECTED, courseId, limit()), COURSE_STATUS);
+    }
+
+    @Test
+    void streamsReadTheSameIndexesAsPages() {
+        assertPlannedOn(() -> drain(applicationRepository.streamOrderByCreatedAt(
+                ApplicationStatus.PENDING, null)), STATUS_CREATED);
+        assertPlannedOn(() -> drain(applicationRepository.streamOrderByStatusChangedAtDesc(
+                ApplicationStatus.SELECTED, null)), STATUS_CHANGED, STATUS_CREATED);
+        assertPlannedOn(() -> drain(applicationRepository.streamOrderById(
+                ApplicationStatus.REJECTED, courseIds.get(1))), COURSE_STATUS);
+    }
+
+    private void assertPlannedOn(Runnable query, String... indexes) {
+        CapturingInspector.STATEMENTS.clear();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> query.run());
+        String sql = CapturingInspector.STATEMENTS.stream()
+                .filter(statement -> statement.toLowerCase(Locale.ROOT).contains("from applications"))
+                .reduce((first, second) -> second)
+                .orElseThrow(() -> new AssertionError("No application query was run"));
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+        assertThat(applicationsScan(plan)).as(plan).containsAnyOf(indexes);
+    }
+
+    /**
+     * The index comment H2 writes after the applications table in the plan
+     */
+    private static String applicationsScan(String plan) {
+        int table = plan.indexOf("\"PUBLIC\".\"APPLICATIONS\"", plan.indexOf("FROM"));
+        int comment = plan.indexOf("/*", table);
+        return plan.substring(comment, plan.indexOf("*/", comment));
+    }
+
+    private static PageRequest limit() {
+        return PageRequest.of(0, 21);
+    }
+
+    private static void drain(Stream<?> stream) {
+        try (stream) {
+            stream.forEach(row -> { });
+        }
+    }
+
+    public static class CapturingInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}